@@ -11,6 +11,7 @@ import org.betterx.bclib.api.v2.levelgen.structures.BCLStructurePoolElementTypes
 import org.betterx.bclib.api.v2.levelgen.structures.TemplatePiece;
 import org.betterx.bclib.api.v2.levelgen.surface.rules.Conditions;
 import org.betterx.bclib.api.v2.poi.PoiManager;
+import org.betterx.bclib.api.v3.bonemeal.BonemealAPI;
 import org.betterx.bclib.api.v3.levelgen.features.blockpredicates.BlockPredicates;
 import org.betterx.bclib.api.v3.levelgen.features.placement.PlacementModifiers;
 import org.betterx.bclib.api.v3.tag.BCLBlockTags;
@@ -21,9 +22,11 @@ import org.betterx.bclib.commands.arguments.BCLibArguments;
 import org.betterx.bclib.complexmaterials.BCLWoodTypeWrapper;
 import org.betterx.bclib.config.Configs;
 import org.betterx.bclib.config.PathConfig;
+import org.betterx.bclib.interfaces.SurvivableStates;
 import org.betterx.bclib.networking.VersionChecker;
 import org.betterx.bclib.recipes.AlloyingRecipe;
 import org.betterx.bclib.recipes.AnvilRecipe;
+import org.betterx.bclib.recipes.BCLRecipeManager;
 import org.betterx.bclib.recipes.CraftingRecipes;
 import org.betterx.bclib.registry.BaseBlockEntities;
 import org.betterx.bclib.registry.BaseRegistry;
@@ -85,6 +88,9 @@ public class BCLib implements ModInitializer {
         DataExchangeAPI.registerMod(MOD_ID);
         AnvilRecipe.register();
         AlloyingRecipe.register();
+        BCLRecipeManager.register();
+        SurvivableStates.register();
+        BonemealAPI.register();
         Conditions.registerAll();
         CommandRegistry.register();
         BCLBlockTags.ensureStaticallyLoaded();
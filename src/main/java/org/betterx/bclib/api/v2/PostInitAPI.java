@@ -45,6 +45,8 @@ public class PostInitAPI {
     private static List<Consumer<Boolean>> postInitFunctions = Lists.newArrayList();
     private static List<TagKey<Block>> blockTags = Lists.newArrayList();
     private static List<TagKey<Item>> itemTags = Lists.newArrayList();
+    private static TagRegistry.Bulk<Block> blockTagBuffer;
+    private static TagRegistry.Bulk<Item> itemTagBuffer;
 
     /**
      * Register a new function which will be called after all mods are initiated. Will be called on both client and server.
@@ -61,6 +63,8 @@ public class PostInitAPI {
      * @param isClient {@code boolean}, {@code true} for client, {@code false} for server.
      */
     public static void postInit(boolean isClient) {
+        blockTagBuffer = TagManager.BLOCKS.bulk();
+        itemTagBuffer = TagManager.ITEMS.bulk();
         BuiltInRegistries.BLOCK.forEach(block -> {
             processBlockCommon(block);
             if (isClient) {
@@ -72,6 +76,10 @@ public class PostInitAPI {
         BuiltInRegistries.ITEM.forEach(item -> {
             processItemCommon(item);
         });
+        blockTagBuffer.commit();
+        itemTagBuffer.commit();
+        blockTagBuffer = null;
+        itemTagBuffer = null;
 
         if (postInitFunctions != null) {
             postInitFunctions.forEach(function -> function.accept(isClient));
@@ -105,22 +113,22 @@ public class PostInitAPI {
             } catch (NullPointerException ex) {
                 BCLib.LOGGER.error(item + " probably tried to access blockTags.", ex);
             }
-            itemTags.forEach(tag -> TagManager.ITEMS.add(tag, item));
+            itemTags.forEach(tag -> itemTagBuffer.add(tag, item));
             itemTags.clear();
         }
 
         if (item instanceof BaseShovelItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_SHOVELS, ItemTags.SHOVELS);
+            itemTagBuffer.add(item, ToolTags.FABRIC_SHOVELS, ItemTags.SHOVELS);
         } else if (item instanceof BaseSwordItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_SWORDS, ItemTags.SWORDS);
+            itemTagBuffer.add(item, ToolTags.FABRIC_SWORDS, ItemTags.SWORDS);
         } else if (item instanceof BasePickaxeItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_PICKAXES, ItemTags.PICKAXES);
+            itemTagBuffer.add(item, ToolTags.FABRIC_PICKAXES, ItemTags.PICKAXES);
         } else if (item instanceof BaseAxeItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_AXES, ItemTags.AXES);
+            itemTagBuffer.add(item, ToolTags.FABRIC_AXES, ItemTags.AXES);
         } else if (item instanceof BaseHoeItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_HOES, ItemTags.HOES);
+            itemTagBuffer.add(item, ToolTags.FABRIC_HOES, ItemTags.HOES);
         } else if (item instanceof BaseShearsItem) {
-            TagManager.ITEMS.add(item, ToolTags.FABRIC_SHEARS, CommonItemTags.SHEARS);
+            itemTagBuffer.add(item, ToolTags.FABRIC_SHEARS, CommonItemTags.SHEARS);
             DispenserBlock.registerBehavior(item.asItem(), new ShearsDispenseItemBehavior());
         }
     }
@@ -134,9 +142,9 @@ public class PostInitAPI {
 
         if (block instanceof TagProvider) {
             ((TagProvider) block).addTags(blockTags, itemTags);
-            blockTags.forEach(tag -> TagManager.BLOCKS.add(tag, block));
+            blockTags.forEach(tag -> blockTagBuffer.add(tag, block));
             if (item != null && item != Items.AIR)
-                itemTags.forEach(tag -> TagManager.ITEMS.add(tag, item));
+                itemTags.forEach(tag -> itemTagBuffer.add(tag, item));
             blockTags.clear();
             itemTags.clear();
         }
@@ -150,51 +158,51 @@ public class PostInitAPI {
         }
         if (!(block instanceof PreventMineableAdd)) {
             if (block instanceof AddMineableShears) {
-                TagManager.BLOCKS.add(block, MineableTags.SHEARS);
+                blockTagBuffer.add(block, MineableTags.SHEARS);
             }
             if (block instanceof AddMineableAxe) {
-                if (!TagManager.BLOCKS.contains(BlockTags.WOODEN_DOORS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_BUTTONS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_SLABS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_FENCES, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_STAIRS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_PRESSURE_PLATES, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.WOODEN_TRAPDOORS, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.WOODEN_BARREL, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.WOODEN_CHEST, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.WOODEN_COMPOSTER, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.WORKBENCHES, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.SIGNS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.PLANKS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.LOGS, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.FENCE_GATES, block)
-                        && !TagManager.BLOCKS.contains(BlockTags.ALL_HANGING_SIGNS, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.WORKBENCHES, block)
-                        && !TagManager.BLOCKS.contains(CommonBlockTags.BOOKSHELVES, block)
+                if (!blockTagBuffer.contains(BlockTags.WOODEN_DOORS, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_BUTTONS, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_SLABS, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_FENCES, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_STAIRS, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_PRESSURE_PLATES, block)
+                        && !blockTagBuffer.contains(BlockTags.WOODEN_TRAPDOORS, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.WOODEN_BARREL, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.WOODEN_CHEST, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.WOODEN_COMPOSTER, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.WORKBENCHES, block)
+                        && !blockTagBuffer.contains(BlockTags.SIGNS, block)
+                        && !blockTagBuffer.contains(BlockTags.PLANKS, block)
+                        && !blockTagBuffer.contains(BlockTags.LOGS, block)
+                        && !blockTagBuffer.contains(BlockTags.FENCE_GATES, block)
+                        && !blockTagBuffer.contains(BlockTags.ALL_HANGING_SIGNS, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.WORKBENCHES, block)
+                        && !blockTagBuffer.contains(CommonBlockTags.BOOKSHELVES, block)
                 ) {
-                    TagManager.BLOCKS.add(block, MineableTags.AXE);
+                    blockTagBuffer.add(block, MineableTags.AXE);
                 }
             }
             if (block instanceof AddMineablePickaxe) {
-                TagManager.BLOCKS.add(block, MineableTags.PICKAXE);
+                blockTagBuffer.add(block, MineableTags.PICKAXE);
             }
             if (block instanceof AddMineableShovel) {
-                TagManager.BLOCKS.add(block, MineableTags.SHOVEL);
+                blockTagBuffer.add(block, MineableTags.SHOVEL);
             }
             if (block instanceof AddMineableHoe) {
-                TagManager.BLOCKS.add(block, MineableTags.HOE);
+                blockTagBuffer.add(block, MineableTags.HOE);
             }
             if (block instanceof AddMineableSword) {
-                TagManager.BLOCKS.add(block, MineableTags.SWORD);
+                blockTagBuffer.add(block, MineableTags.SWORD);
             }
             if (block instanceof AddMineableHammer) {
-                TagManager.BLOCKS.add(block, MineableTags.HAMMER);
+                blockTagBuffer.add(block, MineableTags.HAMMER);
             }
         }
 
         if (block instanceof BehaviourCompostable c) {
             if (item != null && item != Items.AIR) {
-                TagManager.ITEMS.add(block, CommonItemTags.COMPOSTABLE);
+                itemTagBuffer.add(item, CommonItemTags.COMPOSTABLE);
                 ComposterAPI.allowCompost(c.compostingChance(), item);
             } else if (BCLib.isDatagen() && Configs.MAIN_CONFIG.verboseLogging()) {
                 BCLib.LOGGER.warning("Block " + block + " has compostable behaviour but no item!");
@@ -202,52 +210,52 @@ public class PostInitAPI {
         }
 
         if (block instanceof BehaviourWaterPlantLike) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.WATER_PLANT);
+            blockTagBuffer.add(block, CommonBlockTags.WATER_PLANT);
         }
 
         if (block instanceof BehaviourPlant || block instanceof BehaviourShearablePlant) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.PLANT);
+            blockTagBuffer.add(block, CommonBlockTags.PLANT);
         }
 
 
         if (block instanceof BehaviourSeedLike) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.SEEDS);
+            blockTagBuffer.add(block, CommonBlockTags.SEEDS);
             if (item != null && item != Items.AIR) {
-                TagManager.ITEMS.add(block, CommonItemTags.SEEDS);
+                itemTagBuffer.add(item, CommonItemTags.SEEDS);
             }
         }
 
         if (block instanceof BehaviourSaplingLike) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.SAPLINGS, BlockTags.SAPLINGS);
+            blockTagBuffer.add(block, CommonBlockTags.SAPLINGS, BlockTags.SAPLINGS);
             if (item != null && item != Items.AIR) {
-                TagManager.ITEMS.add(block, CommonItemTags.SAPLINGS, ItemTags.SAPLINGS);
+                itemTagBuffer.add(item, CommonItemTags.SAPLINGS, ItemTags.SAPLINGS);
             }
         }
 
         if (block instanceof BehaviourClimable c) {
-            TagManager.BLOCKS.add(block, BlockTags.CLIMBABLE);
+            blockTagBuffer.add(block, BlockTags.CLIMBABLE);
         }
 
         if (block instanceof BehaviourLeaves) {
-            TagManager.BLOCKS.add(block, BlockTags.LEAVES, CommonBlockTags.LEAVES);
+            blockTagBuffer.add(block, BlockTags.LEAVES, CommonBlockTags.LEAVES);
             if (item != null && item != Items.AIR)
-                TagManager.ITEMS.add(item, ItemTags.LEAVES, CommonItemTags.LEAVES);
+                itemTagBuffer.add(item, ItemTags.LEAVES, CommonItemTags.LEAVES);
         }
 
         if (block instanceof BehaviourImmobile) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.IMMOBILE);
+            blockTagBuffer.add(block, CommonBlockTags.IMMOBILE);
         }
 
         if (block instanceof BehaviourObsidian) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.IS_OBSIDIAN);
+            blockTagBuffer.add(block, CommonBlockTags.IS_OBSIDIAN);
         }
 
         if (block instanceof BehaviourPortalFrame) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.NETHER_PORTAL_FRAME);
+            blockTagBuffer.add(block, CommonBlockTags.NETHER_PORTAL_FRAME);
         }
 
         if (block instanceof BehaviourOre) {
-            TagManager.BLOCKS.add(block, CommonBlockTags.ORES);
+            blockTagBuffer.add(block, CommonBlockTags.ORES);
         }
 
         if (block instanceof Fuel fl) {
@@ -455,19 +455,17 @@ public class BiomeAPI {
      * @return {@link BCLBiome} or {@code BiomeAPI.EMPTY_BIOME}.
      */
     public static BCLBiome getRenderBiome(Biome biome) {
-        BCLBiome endBiome = InternalBiomeAPI.CLIENT.get(biome);
-        if (endBiome == null) {
+        final BCLBiome indexed = InternalBiomeAPI.RENDER_INDEX.get(biome);
+        if (indexed != null) return indexed;
+
+        //only biomes that are not part of the connected server are looked up here
+        ResourceLocation id = InternalBiomeAPI.BIOME_INDEX.get(biome);
+        if (id == null) {
             var acc = WorldBootstrap.getLastRegistryAccessOrElseBuiltin();
-            if (acc != null) {
-                final Registry<BCLBiome> reg = BCLBiomeRegistry.registryOrNull();
-                ResourceLocation id = acc
-                        .registryOrThrow(Registries.BIOME)
-                        .getKey(biome);
-                endBiome = BCLBiomeRegistry.getBiomeOrEmpty(id, reg);
-                InternalBiomeAPI.CLIENT.put(biome, endBiome);
-            }
+            if (acc == null) return null;
+            id = acc.registryOrThrow(Registries.BIOME).getKey(biome);
         }
-        return endBiome;
+        return BCLBiomeRegistry.getBiomeOrEmpty(id, BCLBiomeRegistry.registryOrNull());
     }
 
     /**
@@ -493,6 +491,9 @@ public class BiomeAPI {
      * @return biome {@link ResourceLocation}.
      */
     public static ResourceLocation getBiomeID(Biome biome) {
+        final ResourceLocation indexed = InternalBiomeAPI.BIOME_INDEX.get(biome);
+        if (indexed != null) return indexed;
+
         ResourceLocation id = null;
         if (InternalBiomeAPI.biomeRegistry != null) {
             id = InternalBiomeAPI.biomeRegistry.getKey(biome);
@@ -23,6 +23,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.mutable.MutableInt;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,7 +55,8 @@ public class InternalBiomeAPI {
             "OTHER_END_BARRENS",
             BiomeAPI.BiomeType.END_BARRENS
     );
-    static final Map<Biome, BCLBiome> CLIENT = Maps.newHashMap();
+    static volatile BiomeIndex BIOME_INDEX = BiomeIndex.EMPTY;
+    static volatile RenderBiomeIndex RENDER_INDEX = RenderBiomeIndex.EMPTY;
     static final Map<Holder<PlacedFeature>, Integer> FEATURE_ORDER = Maps.newHashMap();
 
     static final Map<HolderGetter<Biome>, AtomicInteger> BIOME_ADDITIONS = Maps.newHashMap();
@@ -77,10 +79,10 @@ public class InternalBiomeAPI {
         if (access != registryAccess) {
             registryAccess = access;
             Registry<Biome> biomeRegistry = access.registry(Registries.BIOME).orElse(null);
+            BIOME_INDEX = BiomeIndex.build(biomeRegistry);
 
             if (biomeRegistry != InternalBiomeAPI.biomeRegistry) {
                 InternalBiomeAPI.biomeRegistry = biomeRegistry;
-                CLIENT.clear();
 
                 BIOMES_TO_SORT.forEach(id -> {
                     Biome b = biomeRegistry.get(id);
@@ -314,6 +316,20 @@ public class InternalBiomeAPI {
         return BIOME_ADDITIONS.computeIfAbsent(registry, reg -> new AtomicInteger(0)).get();
     }
 
+    /**
+     * Initialize the render biomes for the registries the client received from the server it joined.
+     *
+     * @param access - The {@link RegistryAccess} of the client connection, {@code null} once the client left.
+     */
+    public static void initClientRegistry(RegistryAccess access) {
+        RENDER_INDEX = access == null
+                ? RenderBiomeIndex.EMPTY
+                : RenderBiomeIndex.build(
+                        access.registry(Registries.BIOME).orElse(null),
+                        BCLBiomeRegistry.registryOrNull()
+                );
+    }
+
     /**
      * Register {@link BCLBiome} instance and its {@link Biome} if necessary.
      *
@@ -325,4 +341,58 @@ public class InternalBiomeAPI {
         return BiomeAPI.finishBiomeRegistration(bclbiome);
     }
 
+    /**
+     * Immutable snapshot that maps every {@link Biome} of the active registry to its id.
+     * <p>
+     * The snapshot is built eagerly whenever a new registry becomes active and published through a
+     * volatile field, so the render thread and worldgen threads can read it without locking while
+     * the registry is swapped. The {@link BCLBiome} is not part of the snapshot, since biomes can still be
+     * added to the {@link BCLBiomeRegistry} after the registry became active (for example by the biome
+     * repair during world bootstrap). It is resolved from the id on every lookup.
+     *
+     * @param ids Identity keyed lookup table, never modified after construction
+     */
+    record BiomeIndex(Map<Biome, ResourceLocation> ids) {
+        static final BiomeIndex EMPTY = new BiomeIndex(Map.of());
+
+        static BiomeIndex build(Registry<Biome> biomes) {
+            if (biomes == null) return EMPTY;
+            final Map<Biome, ResourceLocation> ids = new IdentityHashMap<>(biomes.size() * 2);
+            for (Map.Entry<ResourceKey<Biome>, Biome> e : biomes.entrySet()) {
+                ids.put(e.getValue(), e.getKey().location());
+            }
+            return new BiomeIndex(ids);
+        }
+
+        ResourceLocation get(Biome biome) {
+            return ids.get(biome);
+        }
+    }
+
+    /**
+     * Immutable snapshot that maps every {@link Biome} the client received from the server to its
+     * {@link BCLBiome}.
+     * <p>
+     * The biome instances of a remote server are never part of the {@link BiomeIndex}, so the client builds
+     * its own snapshot when it joins. The {@link BCLBiome}s are resolved while building, since the client can
+     * not register new ones while it is connected, which makes every render lookup a single map access.
+     *
+     * @param biomes Identity keyed lookup table, never modified after construction
+     */
+    record RenderBiomeIndex(Map<Biome, BCLBiome> biomes) {
+        static final RenderBiomeIndex EMPTY = new RenderBiomeIndex(Map.of());
+
+        static RenderBiomeIndex build(Registry<Biome> biomes, Registry<BCLBiome> bclBiomes) {
+            if (biomes == null) return EMPTY;
+            final Map<Biome, BCLBiome> result = new IdentityHashMap<>(biomes.size() * 2);
+            for (Map.Entry<ResourceKey<Biome>, Biome> e : biomes.entrySet()) {
+                result.put(e.getValue(), BCLBiomeRegistry.getBiomeOrEmpty(e.getKey().location(), bclBiomes));
+            }
+            return new RenderBiomeIndex(result);
+        }
+
+        BCLBiome get(Biome biome) {
+            return biomes.get(biome);
+        }
+    }
 }
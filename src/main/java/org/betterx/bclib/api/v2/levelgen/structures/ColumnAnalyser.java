@@ -0,0 +1,149 @@
+package org.betterx.bclib.api.v2.levelgen.structures;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.NoiseColumn;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.RandomState;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.lang.ref.WeakReference;
+import java.util.function.BiPredicate;
+
+/**
+ * Evaluates the placement checks of a {@link TemplateStructure} directly on the raw block arrays of a
+ * set of {@link NoiseColumn}s.
+ * <p>
+ * Base columns are cached per (x, z) for the structure start attempt of the current chunk, so
+ * structures (or configs) that probe the same positions in the same chunk sample the noise only once.
+ */
+class ColumnAnalyser {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final ThreadLocal<ColumnCache> CACHE = ThreadLocal.withInitial(ColumnCache::new);
+
+    private final BlockState[][] columns;
+    private final int[] minY;
+
+    private ColumnAnalyser(NoiseColumn[] noiseColumns) {
+        this.columns = new BlockState[noiseColumns.length][];
+        this.minY = new int[noiseColumns.length];
+        for (int i = 0; i < noiseColumns.length; i++) {
+            this.columns[i] = noiseColumns[i].column;
+            this.minY[i] = noiseColumns[i].minY;
+        }
+    }
+
+    /**
+     * Samples (or reuses) the base columns at the given positions.
+     *
+     * @param generator The generator of the current start attempt
+     * @param heightAccessor The height accessor of the current start attempt
+     * @param randomState The random state of the current start attempt
+     * @param chunkPos The chunk that is currently attempted
+     * @param xz Interleaved x and z coordinates of the columns
+     * @return A new analyser for the columns
+     */
+    static ColumnAnalyser sample(
+            ChunkGenerator generator,
+            LevelHeightAccessor heightAccessor,
+            RandomState randomState,
+            ChunkPos chunkPos,
+            int... xz
+    ) {
+        final ColumnCache cache = CACHE.get();
+        cache.prepare(randomState, chunkPos);
+
+        NoiseColumn[] noiseColumns = new NoiseColumn[xz.length >> 1];
+        for (int i = 0; i < noiseColumns.length; i++) {
+            final int x = xz[i << 1];
+            final int z = xz[(i << 1) + 1];
+            noiseColumns[i] = cache.columns.computeIfAbsent(
+                    ChunkPos.asLong(x, z),
+                    key -> generator.getBaseColumn(x, z, heightAccessor, randomState)
+            );
+        }
+        return new ColumnAnalyser(noiseColumns);
+    }
+
+    private BlockState getBlock(int column, int y) {
+        final int index = y - minY[column];
+        final BlockState[] states = columns[column];
+        return index >= 0 && index < states.length ? states[index] : AIR;
+    }
+
+    /**
+     * Finds the first height where every column has a valid base.
+     *
+     * @return The lowest match for upward searches, the highest match for downward searches
+     */
+    int findY(BiPredicate<BlockState, BlockState> isCorrectBase, int searchStep, int seaLevel, int maxHeight) {
+        int result = searchStep > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        for (int c = 0; c < columns.length; c++) {
+            int y = searchStep > 0 ? seaLevel : maxHeight - 1;
+            BlockState state = getBlock(c, y - searchStep);
+
+            for (; y < maxHeight && y >= seaLevel; y += searchStep) {
+                BlockState before = state;
+                state = getBlock(c, y);
+                if (isCorrectBase.test(state, before)) break;
+            }
+
+            result = searchStep > 0 ? Math.min(result, y) : Math.max(result, y);
+        }
+        return result;
+    }
+
+    /**
+     * Checks the base and the free space of all columns at the given height in a single pass.
+     *
+     * @return {@code true} if at least {@code minBaseCount} columns have a valid base and the average
+     * ratio of replaceable blocks in the columns is at least {@code minAirRatio}
+     */
+    boolean canPlace(
+            int y,
+            int height,
+            BiPredicate<BlockState, BlockState> isCorrectBase,
+            int searchStep,
+            int minBaseCount,
+            float minAirRatio
+    ) {
+        int baseCount = 0;
+        int airCount = 0;
+        for (int c = 0; c < columns.length; c++) {
+            if (isCorrectBase.test(null, getBlock(c, y - searchStep))) {
+                baseCount++;
+            } else if (baseCount + columns.length - c - 1 < minBaseCount) {
+                return false;
+            }
+
+            for (int i = y; i < y + height && i > y - height; i += searchStep) {
+                BlockState state = getBlock(c, i);
+                if (state.isAir() || state.canBeReplaced()) {
+                    airCount++;
+                }
+            }
+        }
+
+        if (baseCount < minBaseCount) return false;
+        return airCount / (float) (height * columns.length) >= minAirRatio;
+    }
+
+    private static class ColumnCache {
+        private final Long2ObjectOpenHashMap<NoiseColumn> columns = new Long2ObjectOpenHashMap<>();
+        //the random state identifies the level, a weak reference keeps worker threads from holding on to it
+        private WeakReference<RandomState> randomState = new WeakReference<>(null);
+        private long chunkPos;
+
+        void prepare(RandomState randomState, ChunkPos chunkPos) {
+            final long pos = chunkPos.toLong();
+            if (this.randomState.get() != randomState || this.chunkPos != pos) {
+                this.columns.clear();
+                this.randomState = new WeakReference<>(randomState);
+                this.chunkPos = pos;
+            }
+        }
+    }
+}
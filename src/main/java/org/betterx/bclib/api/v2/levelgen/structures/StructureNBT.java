@@ -34,18 +34,33 @@ import java.util.Map;
 import org.jetbrains.annotations.Nullable;
 
 public class StructureNBT {
+    private static final StructurePlaceSettings[] PLACE_SETTINGS = new StructurePlaceSettings[Rotation.values().length * Mirror.values().length];
+
+    static {
+        for (Rotation rotation : Rotation.values()) {
+            for (Mirror mirror : Mirror.values()) {
+                PLACE_SETTINGS[settingsIndex(rotation, mirror)] = new StructurePlaceSettings()
+                        .setRotation(rotation)
+                        .setMirror(mirror);
+            }
+        }
+    }
+
     public final ResourceLocation location;
     protected StructureTemplate structure;
+    private final BoundingBox[] boundingBoxes;
 
 
     protected StructureNBT(ResourceLocation location) {
         this.location = location;
         this.structure = readStructureFromJar(location);
+        this.boundingBoxes = computeBoundingBoxes(structure);
     }
 
     protected StructureNBT(ResourceLocation location, StructureTemplate structure) {
         this.location = location;
         this.structure = structure;
+        this.boundingBoxes = computeBoundingBoxes(structure);
     }
 
     public static Rotation getRandomRotation(RandomSource random) {
@@ -56,6 +71,36 @@ public class StructureNBT {
         return Mirror.values()[random.nextInt(3)];
     }
 
+    private static int settingsIndex(Rotation rotation, Mirror mirror) {
+        return rotation.ordinal() * Mirror.values().length + mirror.ordinal();
+    }
+
+    /**
+     * Returns shared placement settings for the given rotation and mirror. The returned settings must not
+     * be modified.
+     */
+    private static StructurePlaceSettings getPlaceSettings(Rotation rotation, Mirror mirror) {
+        return PLACE_SETTINGS[settingsIndex(rotation, mirror)];
+    }
+
+    /**
+     * Computes the bounding box of the template placed at the origin for every rotation and mirror. The boxes
+     * are never handed out, callers only get moved copies.
+     */
+    private static BoundingBox[] computeBoundingBoxes(@Nullable StructureTemplate structure) {
+        final BoundingBox[] boxes = new BoundingBox[PLACE_SETTINGS.length];
+        if (structure != null) {
+            for (int i = 0; i < boxes.length; i++) {
+                boxes[i] = structure.getBoundingBox(PLACE_SETTINGS[i], BlockPos.ZERO);
+            }
+        }
+        return boxes;
+    }
+
+    private BoundingBox getBoundingBoxAtOrigin(Rotation rotation, Mirror mirror) {
+        return boundingBoxes[settingsIndex(rotation, mirror)];
+    }
+
     private static final Map<ResourceLocation, StructureNBT> STRUCTURE_CACHE = Maps.newHashMap();
 
     public static StructureNBT create(ResourceLocation location) {
@@ -65,7 +110,7 @@ public class StructureNBT {
     public boolean generateCentered(ServerLevelAccessor world, BlockPos pos, Rotation rotation, Mirror mirror) {
         BlockPos newPos = getCenteredPos(pos, rotation, mirror);
         if (newPos == null) return false;
-        StructurePlaceSettings data = new StructurePlaceSettings().setRotation(rotation).setMirror(mirror);
+        StructurePlaceSettings data = getPlaceSettings(rotation, mirror);
         structure.placeInWorld(
                 world,
                 newPos,
@@ -78,7 +123,7 @@ public class StructureNBT {
     }
 
     public boolean generateAt(ServerLevelAccessor world, BlockPos pos, Rotation rotation, Mirror mirror) {
-        StructurePlaceSettings data = new StructurePlaceSettings().setRotation(rotation).setMirror(mirror);
+        StructurePlaceSettings data = getPlaceSettings(rotation, mirror);
         structure.placeInWorld(
                 world,
                 pos,
@@ -229,13 +274,15 @@ public class StructureNBT {
     }
 
     public BoundingBox getBoundingBox(BlockPos pos, Rotation rotation, Mirror mirror) {
-        return structure.getBoundingBox(new StructurePlaceSettings().setRotation(rotation).setMirror(mirror), pos);
+        return getBoundingBoxAtOrigin(rotation, mirror).moved(pos.getX(), pos.getY(), pos.getZ());
     }
 
     public BoundingBox getCenteredBoundingBox(BlockPos pos, Rotation rotation, Mirror mirror) {
-        return structure.getBoundingBox(
-                new StructurePlaceSettings().setRotation(rotation).setMirror(mirror),
-                getCenteredPos(pos, rotation, mirror)
+        final BlockPos centeredPos = getCenteredPos(pos, rotation, mirror);
+        return getBoundingBoxAtOrigin(rotation, mirror).moved(
+                centeredPos.getX(),
+                centeredPos.getY(),
+                centeredPos.getZ()
         );
     }
 }
@@ -13,6 +13,7 @@ import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import com.google.common.collect.Maps;
@@ -135,13 +136,15 @@ public class StructureWorldNBT extends StructureNBT {
     protected boolean canGenerateFloor(LevelAccessor world, BlockPos pos, Rotation rotation) {
         if (containsBedrock(world, pos)) return false;
 
-        return getAirFraction(world, pos, rotation) > 0.6 && getAirFractionFoundation(world, pos, rotation) < 0.5;
+        final VolumeScan scan = scanVolume(world, pos, rotation);
+        return scan.air > 0.6 && scan.foundationAir < 0.5;
     }
 
     protected boolean canGenerateLava(LevelAccessor world, BlockPos pos, Rotation rotation) {
         if (containsBedrock(world, pos)) return false;
 
-        return getLavaFractionFoundation(world, pos, rotation) > 0.9 && getAirFraction(world, pos, rotation) > 0.9;
+        //the single foundation layer is cheap and rejects most positions, so only scan the volume if it passes
+        return getLavaFractionFoundation(world, pos, rotation) > 0.9 && scanVolume(world, pos, rotation).air > 0.9;
     }
 
     protected boolean canGenerateUnder(LevelAccessor world, BlockPos pos, Rotation rotation) {
@@ -188,6 +191,55 @@ public class StructureWorldNBT extends StructureNBT {
         return (float) airCount / count;
     }
 
+    /**
+     * Collects the air fraction of the structure volume and the fraction of replaceable blocks in its
+     * foundation in a single sweep, reading every block only once.
+     */
+    private VolumeScan scanVolume(LevelAccessor world, BlockPos pos, Rotation rotation) {
+        final MutableBlockPos POS = new MutableBlockPos();
+        int airCount = 0;
+        int foundationAirCount = 0;
+
+        MutableBlockPos size = new MutableBlockPos().set(new BlockPos(structure.getSize()).rotate(rotation));
+        size.setX(Math.abs(size.getX()) >> 1);
+        size.setZ(Math.abs(size.getZ()) >> 1);
+
+        final int baseY = pos.getY();
+        BlockPos start = pos.offset(-size.getX(), -1, -size.getZ());
+        BlockPos end = pos.offset(size.getX(), size.getY() + offsetY, size.getZ());
+        int count = 0;
+        int foundationCount = 0;
+
+        for (int x = start.getX(); x <= end.getX(); x++) {
+            POS.setX(x);
+            for (int z = start.getZ(); z <= end.getZ(); z++) {
+                POS.setZ(z);
+                for (int y = start.getY(); y <= Math.max(end.getY(), baseY); y++) {
+                    POS.setY(y);
+                    final BlockState state = world.getBlockState(POS);
+                    if (y <= baseY) {
+                        if (state.canBeReplaced())
+                            foundationAirCount++;
+                        foundationCount++;
+                    }
+                    if (y >= baseY && y <= end.getY()) {
+                        if (state.isAir())
+                            airCount++;
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return new VolumeScan(
+                (float) airCount / count,
+                (float) foundationAirCount / foundationCount
+        );
+    }
+
+    private record VolumeScan(float air, float foundationAir) {
+    }
+
     private float getLavaFractionFoundation(LevelAccessor world, BlockPos pos, Rotation rotation) {
         final MutableBlockPos POS = new MutableBlockPos();
         int lavaCount = 0;
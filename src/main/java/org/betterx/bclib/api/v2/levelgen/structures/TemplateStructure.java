@@ -1,5 +1,7 @@
 package org.betterx.bclib.api.v2.levelgen.structures;
 
+import org.betterx.bclib.util.MHelper;
+
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
@@ -9,7 +11,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.ExtraCodecs;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.NoiseColumn;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Mirror;
@@ -20,8 +21,6 @@ import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 
-import com.google.common.collect.ImmutableList;
-
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -29,6 +28,7 @@ import java.util.function.BiPredicate;
 
 public abstract class TemplateStructure extends Structure {
     protected final List<Config> configs;
+    private final float[] cumulativeChance;
 
     public static <T extends TemplateStructure> Codec<T> simpleTemplateCodec(BiFunction<StructureSettings, List<Config>, T> instancer) {
         return RecordCodecBuilder.create((instance) -> instance
@@ -59,22 +59,16 @@ public abstract class TemplateStructure extends Structure {
     ) {
         super(structureSettings);
         this.configs = configs;
+        this.cumulativeChance = new float[configs.size()];
+        float sum = 0;
+        for (int i = 0; i < cumulativeChance.length; i++) {
+            sum += configs.get(i).chance();
+            cumulativeChance[i] = sum;
+        }
     }
 
     protected Config randomConfig(RandomSource random) {
-        if (this.configs.size() > 1) {
-            final float chanceSum = configs.parallelStream().map(c -> c.chance()).reduce(0.0f, (p, c) -> p + c);
-            float rnd = random.nextFloat() * chanceSum;
-
-            for (Config c : configs) {
-                rnd -= c.chance();
-                if (rnd <= 0) return c;
-            }
-        } else {
-            return this.configs.get(0);
-        }
-
-        return null;
+        return this.configs.get(MHelper.randomWeightedIndex(cumulativeChance, random));
     }
 
     protected boolean isLavaPlaceable(BlockState state, BlockState before) {
@@ -152,48 +146,24 @@ public abstract class TemplateStructure extends Structure {
         );
         BoundingBox boundingBox = structureTemplate.getBoundingBox(centerPos, rotation, halfSize, mirror);
 
-        var noiseColumns = ImmutableList
-                .of(
-                        new BlockPos(boundingBox.getCenter().getX(), 0, boundingBox.getCenter().getZ()),
-                        new BlockPos(boundingBox.minX(), 0, boundingBox.minZ()),
-                        new BlockPos(boundingBox.maxX(), 0, boundingBox.minZ()),
-                        new BlockPos(boundingBox.minX(), 0, boundingBox.maxZ()),
-                        new BlockPos(boundingBox.maxX(), 0, boundingBox.maxZ())
-                )
-                .stream()
-                .map(blockPos -> ctx.chunkGenerator().getBaseColumn(
-                        blockPos.getX(),
-                        blockPos.getZ(),
-                        ctx.heightAccessor(),
-                        ctx.randomState()
-                )).toList();
+        final ColumnAnalyser columns = ColumnAnalyser.sample(
+                ctx.chunkGenerator(),
+                ctx.heightAccessor(),
+                ctx.randomState(),
+                chunkPos,
+                boundingBox.getCenter().getX(), boundingBox.getCenter().getZ(),
+                boundingBox.minX(), boundingBox.minZ(),
+                boundingBox.maxX(), boundingBox.minZ(),
+                boundingBox.minX(), boundingBox.maxZ(),
+                boundingBox.maxX(), boundingBox.maxZ()
+        );
 
-        int y = noiseColumns
-                .stream()
-                .map(column -> findY(column, isCorrectBase, searchStep, seaLevel, maxHeight))
-                .reduce(
-                        searchStep > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE,
-                        (p, c) -> searchStep > 0 ? Math.min(p, c) : Math.max(p, c)
-                );
+        final int y = columns.findY(isCorrectBase, searchStep, seaLevel, maxHeight);
 
         if (y >= maxHeight || y < seaLevel) return Optional.empty();
         if (!BCLStructure.isValidBiome(ctx, y)) return Optional.empty();
-
-        int baseCount = noiseColumns
-                .stream()
-                .map(column -> isCorrectBase.test(null, column.getBlock(y - searchStep)))
-                .filter(b -> b)
-                .map(b -> 1)
-                .reduce(0, (p, c) -> p + c);
-
-        if (baseCount < minBaseCount) return Optional.empty();
-
-        float airRatio = noiseColumns
-                .stream()
-                .map(column -> airRatio(column, y, boundingBox.getYSpan(), searchStep))
-                .reduce(0.0f, (p, c) -> p + c) / noiseColumns.size();
-
-        if (airRatio < minAirRatio) return Optional.empty();
+        if (!columns.canPlace(y, boundingBox.getYSpan(), isCorrectBase, searchStep, minBaseCount, minAirRatio))
+            return Optional.empty();
 
         centerPos.setY(y - (searchStep == 1 ? 0 : (structureTemplate.getSize(Rotation.NONE).getY())));
 
@@ -243,37 +213,6 @@ public abstract class TemplateStructure extends Structure {
         return true;
     }
 
-    private float airRatio(NoiseColumn column, int y, int height, int searchStep) {
-        int airCount = 0;
-        for (int i = y; i < y + height && i > y - height; i += searchStep) {
-            BlockState state = column.getBlock(i);
-            if (state.isAir() || state.canBeReplaced()) {
-                airCount++;
-            }
-        }
-        return airCount / (float) height;
-    }
-
-
-    private int findY(
-            NoiseColumn column,
-            BiPredicate<BlockState, BlockState> isCorrectBase,
-            int searchStep,
-            int seaLevel,
-            int maxHeight
-    ) {
-        int y = searchStep > 0 ? seaLevel : maxHeight - 1;
-        BlockState state = column.getBlock(y - searchStep);
-
-        for (; y < maxHeight && y >= seaLevel; y += searchStep) {
-            BlockState before = state;
-            state = column.getBlock(y);
-            if (isCorrectBase.test(state, before)) break;
-        }
-        return y;
-    }
-
-
     public record Config(ResourceLocation location, int offsetY, StructurePlacementType type, float chance) {
         public static final Codec<Config> CODEC =
                 RecordCodecBuilder.create((instance) ->
@@ -1,7 +1,6 @@
 package org.betterx.bclib.api.v2.levelgen.structures.templatesystem;
 
 import org.betterx.bclib.util.BlocksHelper;
-import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.LevelReader;
@@ -30,7 +29,7 @@ public class DestructionStructureProcessor extends StructureProcessor {
                 structureBlockInfo2.state(),
                 worldView,
                 structureBlockInfo2.pos()
-        ) && MHelper.RANDOM.nextInt(chance) == 0) {
+        ) && structurePlacementData.getRandom(structureBlockInfo2.pos()).nextInt(chance) == 0) {
             return null;
         }
         return structureBlockInfo2;
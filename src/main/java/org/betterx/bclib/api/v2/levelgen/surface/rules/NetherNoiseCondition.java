@@ -1,12 +1,16 @@
 package org.betterx.bclib.api.v2.levelgen.surface.rules;
 
+import org.betterx.bclib.BCLib;
 import org.betterx.bclib.interfaces.NumericProvider;
 import org.betterx.bclib.mixin.common.SurfaceRulesContextAccessor;
 import org.betterx.bclib.util.MHelper;
 
 import com.mojang.serialization.Codec;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
 
 public class NetherNoiseCondition implements NumericProvider {
+    private static final ResourceLocation RANDOM_ID = BCLib.makeID("nether_noise");
     public static final Codec<NetherNoiseCondition> CODEC = Codec.BYTE.fieldOf("nether_noise")
                                                                       .xmap(
                                                                               (obj) -> (NetherNoiseCondition) Conditions.NETHER_NOISE,
@@ -35,12 +39,13 @@ public class NetherNoiseCondition implements NumericProvider {
                 z * Conditions.NETHER_VOLUME_NOISE.scaleZ
         );
 
-        int offset = Conditions.NETHER_VOLUME_NOISE.noiseContext.random.nextInt(20) == 0 ? 3 : 0;
+        final RandomSource random = context.getRandomState().getOrCreateRandomFactory(RANDOM_ID).at(x, y, z);
+        int offset = random.nextInt(20) == 0 ? 3 : 0;
 
-        float cmp = MHelper.randRange(0.4F, 0.5F, Conditions.NETHER_VOLUME_NOISE.noiseContext.random);
+        float cmp = MHelper.randRange(0.4F, 0.5F, random);
         if (value > cmp || value < -cmp) return 2 + offset;
 
-        if (value > Conditions.NETHER_VOLUME_NOISE.range.sample(Conditions.NETHER_VOLUME_NOISE.noiseContext.random))
+        if (value > Conditions.NETHER_VOLUME_NOISE.range.sample(random))
             return 0 + offset;
 
         return 1 + offset;
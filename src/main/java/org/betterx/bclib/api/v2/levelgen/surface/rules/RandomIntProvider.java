@@ -1,19 +1,24 @@
 package org.betterx.bclib.api.v2.levelgen.surface.rules;
 
+import org.betterx.bclib.BCLib;
 import org.betterx.bclib.interfaces.NumericProvider;
 import org.betterx.bclib.mixin.common.SurfaceRulesContextAccessor;
-import org.betterx.bclib.util.MHelper;
 
 import com.mojang.serialization.Codec;
+import net.minecraft.resources.ResourceLocation;
 
 public record RandomIntProvider(int range) implements NumericProvider {
+    private static final ResourceLocation RANDOM_ID = BCLib.makeID("random_int");
     public static final Codec<RandomIntProvider> CODEC = Codec.INT.fieldOf("range")
                                                                   .xmap(RandomIntProvider::new, obj -> obj.range)
                                                                   .codec();
 
     @Override
     public int getNumber(SurfaceRulesContextAccessor context) {
-        return MHelper.RANDOM.nextInt(range);
+        return context.getRandomState()
+                      .getOrCreateRandomFactory(RANDOM_ID)
+                      .at(context.getBlockX(), context.getBlockY(), context.getBlockZ())
+                      .nextInt(range);
     }
 
     @Override
@@ -19,6 +19,8 @@ import java.util.Optional;
 import java.util.Set;
 
 public class BCLPoiType {
+    private static final int MIN_SEARCH_RADIUS = 16;
+
     public final ResourceKey<PoiType> key;
     public final PoiType type;
     public final Set<BlockState> matchingStates;
@@ -98,16 +100,22 @@ public class BCLPoiType {
     ) {
         PoiManager poiManager = level.getPoiManager();
 
-        poiManager.ensureLoadedAndValid(level, center, radius);
-        Optional<PoiRecord> record = poiManager
-                .getInSquare(holder -> holder.is(key), center, radius, PoiManager.Occupancy.ANY)
-                .filter(poiRecord -> worldBorder.isWithinBounds(poiRecord.getPos()))
-                .sorted(Comparator.<PoiRecord>comparingDouble(poiRecord -> poiRecord.getPos().distSqr(center))
-                                  .thenComparingInt(poiRecord -> poiRecord.getPos().getY()))
-                .filter(poiRecord -> level.getBlockState(poiRecord.getPos())
-                                          .hasProperty(BlockStateProperties.HORIZONTAL_AXIS))
-                .findFirst();
+        //search growing squares. A POI that is found inside the square and not further away than its radius is
+        //closer than anything outside of it, so the larger squares never have to be loaded.
+        int searchRadius = Math.min(radius, MIN_SEARCH_RADIUS);
+        while (true) {
+            poiManager.ensureLoadedAndValid(level, center, searchRadius);
+            Optional<BlockPos> pos = poiManager
+                    .getInSquare(holder -> holder.is(key), center, searchRadius, PoiManager.Occupancy.ANY)
+                    .map(PoiRecord::getPos)
+                    .filter(worldBorder::isWithinBounds)
+                    .filter(poiPos -> level.getBlockState(poiPos).hasProperty(BlockStateProperties.HORIZONTAL_AXIS))
+                    .min(Comparator.<BlockPos>comparingDouble(poiPos -> poiPos.distSqr(center))
+                                   .thenComparingInt(BlockPos::getY));
 
-        return record.map(poiRecord -> poiRecord.getPos());
+            if (searchRadius >= radius) return pos;
+            if (pos.isPresent() && pos.get().distSqr(center) <= (double) searchRadius * searchRadius) return pos;
+            searchRadius = Math.min(radius, searchRadius * 2);
+        }
     }
 }
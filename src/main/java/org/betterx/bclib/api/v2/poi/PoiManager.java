@@ -57,7 +57,10 @@ public class PoiManager {
 
 
     private static final List<Holder<PoiType>> TYPES_WITH_TAGS = new ArrayList<>(4);
-    private static Map<BlockState, Holder<PoiType>> ORIGINAL_BLOCK_STATES = null;
+    //the value each state had before it was first changed by a tag, null if it had none
+    private static final Map<BlockState, Holder<PoiType>> ORIGINAL_BLOCK_STATES = new HashMap<>();
+    //the states that are currently mapped by a tag
+    private static Map<BlockState, Holder<PoiType>> TAGGED_BLOCK_STATES = new HashMap<>();
 
     private static void didAddTagFor(Holder<PoiType> type, TagKey<Block> tag) {
         TYPES_WITH_TAGS.remove(type);
@@ -65,17 +68,15 @@ public class PoiManager {
     }
 
 
+    /**
+     * Maps all states of the blocks in the POI tags to their POI type.
+     * <p>
+     * Only the states whose tag membership changed since the last call are updated. States that are no longer
+     * in a tag get back the type they had before they were first changed.
+     */
     @ApiStatus.Internal
     public static void updateStates() {
-        if (ORIGINAL_BLOCK_STATES == null) {
-            //We have not yet tainted the original states, so we will create a copy now
-            ORIGINAL_BLOCK_STATES = new HashMap<>(PoiTypes.TYPE_BY_STATE);
-        } else {
-            //restore unaltered state
-            PoiTypes.TYPE_BY_STATE.clear();
-            PoiTypes.TYPE_BY_STATE.putAll(ORIGINAL_BLOCK_STATES);
-        }
-
+        final Map<BlockState, Holder<PoiType>> tagged = new HashMap<>();
         for (Holder<PoiType> type : TYPES_WITH_TAGS) {
             if ((Object) type.value() instanceof PoiTypeExtension ex) {
                 TagKey<Block> tag = ex.bcl_getTag();
@@ -83,11 +84,31 @@ public class PoiManager {
                     var registry = InternalBiomeAPI.worldRegistryAccess().registryOrThrow(tag.registry());
                     for (var block : registry.getTagOrEmpty(tag)) {
                         for (var state : block.value().getStateDefinition().getPossibleStates()) {
-                            PoiTypes.TYPE_BY_STATE.put(state, type);
+                            tagged.put(state, type);
                         }
                     }
                 }
             }
         }
+
+        for (var e : TAGGED_BLOCK_STATES.entrySet()) {
+            if (!tagged.containsKey(e.getKey())) {
+                final Holder<PoiType> original = ORIGINAL_BLOCK_STATES.get(e.getKey());
+                if (original == null) PoiTypes.TYPE_BY_STATE.remove(e.getKey());
+                else PoiTypes.TYPE_BY_STATE.put(e.getKey(), original);
+            }
+        }
+
+        for (var e : tagged.entrySet()) {
+            final Holder<PoiType> current = PoiTypes.TYPE_BY_STATE.get(e.getKey());
+            if (!ORIGINAL_BLOCK_STATES.containsKey(e.getKey())) {
+                ORIGINAL_BLOCK_STATES.put(e.getKey(), current);
+            }
+            if (current != e.getValue()) {
+                PoiTypes.TYPE_BY_STATE.put(e.getKey(), e.getValue());
+            }
+        }
+
+        TAGGED_BLOCK_STATES = tagged;
     }
 }
@@ -0,0 +1,143 @@
+package org.betterx.bclib.api.v2.spawning;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevelAccessor;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.SpawnPlacements.SpawnPredicate;
+
+import com.google.common.collect.Lists;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The spawn predicate built by a {@link SpawnRuleBuilder}.
+ * <p>
+ * Rules are sorted once by their expected cost per rejection (see {@link SpawnRuleEntry#rank()}), so cheap and
+ * selective checks run before expensive ones, and are stored in a plain array. While profiling is enabled,
+ * every rule also records how often it was checked, how often it rejected a spawn and how long it took.
+ */
+public class CompiledSpawnRules<M extends Mob> implements SpawnPredicate<M> {
+    private static final List<CompiledSpawnRules<?>> ALL = new CopyOnWriteArrayList<>();
+    private static volatile boolean profiling = false;
+
+    public final EntityType<M> entityType;
+    private final SpawnRuleEntry<M>[] rules;
+    private final AtomicLongArray checks;
+    private final AtomicLongArray rejections;
+    private final AtomicLongArray nanos;
+
+    private CompiledSpawnRules(EntityType<M> entityType, SpawnRuleEntry<M>[] rules) {
+        this.entityType = entityType;
+        this.rules = rules;
+        this.checks = new AtomicLongArray(rules.length);
+        this.rejections = new AtomicLongArray(rules.length);
+        this.nanos = new AtomicLongArray(rules.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <M extends Mob> CompiledSpawnRules<M> compile(EntityType<M> entityType, Collection<SpawnRuleEntry> rules) {
+        final List<SpawnRuleEntry> sorted = Lists.newArrayList(rules);
+        Collections.sort(sorted);
+
+        CompiledSpawnRules<M> compiled = new CompiledSpawnRules<>(
+                entityType,
+                sorted.toArray(new SpawnRuleEntry[0])
+        );
+        ALL.removeIf(c -> c.entityType == entityType);
+        ALL.add(compiled);
+        return compiled;
+    }
+
+    @Override
+    public boolean test(
+            EntityType<M> type,
+            ServerLevelAccessor world,
+            MobSpawnType spawnReason,
+            BlockPos pos,
+            RandomSource random
+    ) {
+        if (profiling) return testProfiled(type, world, spawnReason, pos, random);
+
+        for (SpawnRuleEntry<M> rule : rules) {
+            if (!rule.canSpawn(type, world, spawnReason, pos, random)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean testProfiled(
+            EntityType<M> type,
+            ServerLevelAccessor world,
+            MobSpawnType spawnReason,
+            BlockPos pos,
+            RandomSource random
+    ) {
+        for (int i = 0; i < rules.length; i++) {
+            final long start = System.nanoTime();
+            final boolean result = rules[i].canSpawn(type, world, spawnReason, pos, random);
+            nanos.addAndGet(i, System.nanoTime() - start);
+            checks.incrementAndGet(i);
+            if (!result) {
+                rejections.incrementAndGet(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reset() {
+        for (int i = 0; i < rules.length; i++) {
+            checks.set(i, 0);
+            rejections.set(i, 0);
+            nanos.set(i, 0);
+        }
+    }
+
+    public record RuleStats(EntityType<?> entityType, String rule, long checks, long rejections, long nanos) {
+    }
+
+    /**
+     * Enables or disables the collection of spawn rule statistics. Enabling resets all counters.
+     */
+    @ApiStatus.Internal
+    public static void setProfiling(boolean enabled) {
+        if (enabled) ALL.forEach(CompiledSpawnRules::reset);
+        profiling = enabled;
+    }
+
+    @ApiStatus.Internal
+    public static boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * @return The collected statistics of every rule that was checked at least once.
+     */
+    @ApiStatus.Internal
+    public static List<RuleStats> getStats() {
+        List<RuleStats> stats = Lists.newArrayList();
+        for (CompiledSpawnRules<?> compiled : ALL) {
+            for (int i = 0; i < compiled.rules.length; i++) {
+                final long checks = compiled.checks.get(i);
+                if (checks == 0) continue;
+                stats.add(new RuleStats(
+                        compiled.entityType,
+                        compiled.rules[i].debugName,
+                        checks,
+                        compiled.rejections.get(i),
+                        compiled.nanos.get(i)
+                ));
+            }
+        }
+        return stats;
+    }
+}
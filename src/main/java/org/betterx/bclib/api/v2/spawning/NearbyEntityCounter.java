@@ -0,0 +1,97 @@
+package org.betterx.bclib.api.v2.spawning;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.entity.EntitySection;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.phys.AABB;
+
+import java.util.Collection;
+import java.util.PrimitiveIterator;
+
+/**
+ * Counts entities of a class around a position without collecting them.
+ * <p>
+ * The entity section storage of a {@link ServerLevel} already keeps the entities of every section grouped
+ * by class, and keeps those groups up to date whenever an entity enters or leaves a section. For sections that
+ * lie completely inside the searched box, this counter only adds the size of the group. Entities of sections
+ * on the border of the box are tested one by one, so the result is the same as for
+ * {@link ServerLevel#getEntitiesOfClass}. Nothing is cached, so entities spawned earlier in the same tick are
+ * counted right away.
+ */
+class NearbyEntityCounter {
+    /**
+     * Checks if fewer than {@code limit} entities of the given class touch the box that reaches {@code side}
+     * blocks around the position, across the full height of the level.
+     * <p>
+     * Must be called on the server thread.
+     *
+     * @param level     The level to check
+     * @param baseClass The class of the entities to count
+     * @param pos       The center of the area
+     * @param side      The horizontal distance to check
+     * @param limit     The exclusive maximum number of entities
+     * @return {@code true} if there are fewer entities than {@code limit}
+     */
+    static boolean isBelowLimit(
+            ServerLevel level,
+            Class<? extends Entity> baseClass,
+            BlockPos pos,
+            int side,
+            int limit
+    ) {
+        final AABB box = new AABB(pos).inflate(side, level.getHeight(), side);
+        final EntitySectionStorage<Entity> storage = level.entityManager.sectionStorage;
+        //entities are stored by position, but their bounding box may reach into the box from a neighbouring
+        //section, so the sections are searched with the same margin vanilla uses
+        final int minX = SectionPos.posToSectionCoord(box.minX - 2.0);
+        final int minY = SectionPos.posToSectionCoord(box.minY - 4.0);
+        final int minZ = SectionPos.posToSectionCoord(box.minZ - 2.0);
+        final int maxX = SectionPos.posToSectionCoord(box.maxX + 2.0);
+        final int maxY = SectionPos.posToSectionCoord(box.maxY + 0.0);
+        final int maxZ = SectionPos.posToSectionCoord(box.maxZ + 2.0);
+
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final PrimitiveIterator.OfLong sections = storage
+                        .getExistingSectionPositionsInChunk(ChunkPos.asLong(x, z))
+                        .iterator();
+                while (sections.hasNext()) {
+                    final long sectionPos = sections.nextLong();
+                    final int y = SectionPos.y(sectionPos);
+                    if (y < minY || y > maxY) continue;
+
+                    final EntitySection<Entity> section = storage.getSection(sectionPos);
+                    if (section == null || section.isEmpty() || !section.getStatus().isAccessible()) continue;
+
+                    final Collection<? extends Entity> entities = section.storage.find(baseClass);
+                    if (contains(box, x, y, z)) {
+                        count += entities.size();
+                    } else {
+                        for (Entity entity : entities) {
+                            if (entity.getBoundingBox().intersects(box)) count++;
+                        }
+                    }
+                    if (count >= limit) return false;
+                }
+            }
+        }
+        return count < limit;
+    }
+
+    /**
+     * @return {@code true} if every position in the section is inside the box
+     */
+    private static boolean contains(AABB box, int sectionX, int sectionY, int sectionZ) {
+        final int minX = SectionPos.sectionToBlockCoord(sectionX);
+        final int minY = SectionPos.sectionToBlockCoord(sectionY);
+        final int minZ = SectionPos.sectionToBlockCoord(sectionZ);
+        return minX >= box.minX && minX + 16 <= box.maxX
+                && minY >= box.minY && minY + 16 <= box.maxY
+                && minZ >= box.minZ && minZ + 16 <= box.maxZ;
+    }
+}
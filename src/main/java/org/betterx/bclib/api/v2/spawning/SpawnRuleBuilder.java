@@ -5,6 +5,7 @@ import org.betterx.bclib.interfaces.SpawnRule;
 import org.betterx.bclib.util.BlocksHelper;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
@@ -65,7 +66,7 @@ public class SpawnRuleBuilder<M extends Mob> {
      */
     public SpawnRuleBuilder preventSpawn() {
         entryInstance = getFromCache("prevent", () -> {
-            return new SpawnRuleEntry(-1, (type, world, spawnReason, pos, random) -> false, "Prevent Spawn");
+            return new SpawnRuleEntry(-1, 0, 0, (type, world, spawnReason, pos, random) -> false, "Prevent Spawn");
         });
         rules.add(entryInstance);
         return this;
@@ -80,6 +81,8 @@ public class SpawnRuleBuilder<M extends Mob> {
         entryInstance = getFromCache("not_peaceful", () -> {
             return new SpawnRuleEntry(
                     0,
+                    1,
+                    0.9f,
                     (type, world, spawnReason, pos, random) -> world.getDifficulty() != Difficulty.PEACEFUL,
                     "Not Peaceful"
             );
@@ -96,7 +99,7 @@ public class SpawnRuleBuilder<M extends Mob> {
      */
     public SpawnRuleBuilder aboveGround(int minHeight) {
         entryInstance = getFromCache("above_ground", () -> {
-            return new SpawnRuleEntry(0, (type, world, spawnReason, pos, random) -> {
+            return new SpawnRuleEntry(0, 16, 0.5f, (type, world, spawnReason, pos, random) -> {
                 if (pos.getY() < world.getMinBuildHeight() + 2) {
                     return false;
                 }
@@ -125,6 +128,8 @@ public class SpawnRuleBuilder<M extends Mob> {
         entryInstance = getFromCache("below_max_height", () -> {
             return new SpawnRuleEntry(
                     0,
+                    1,
+                    0.8f,
                     (type, world, spawnReason, pos, random) -> pos.getY() < world.dimensionType()
                                                                                  .logicalHeight(),
                     "Below Max Height"
@@ -141,7 +146,7 @@ public class SpawnRuleBuilder<M extends Mob> {
      */
     public SpawnRuleBuilder onlyOnValidBlocks() {
         entryInstance = getFromCache("only_on_valid_blocks", () -> {
-            return new SpawnRuleEntry(0, (type, world, spawnReason, pos, random) -> {
+            return new SpawnRuleEntry(0, 4, 0.7f, (type, world, spawnReason, pos, random) -> {
                 BlockPos below = pos.below();
                 return world.getBlockState(below).isValidSpawn(world, below, type);
             }, "Only On Valid Blocks");
@@ -166,7 +171,7 @@ public class SpawnRuleBuilder<M extends Mob> {
         }
 
         entryInstance = getFromCache(builder.toString(), () -> {
-            return new SpawnRuleEntry(0, (type, world, spawnReason, pos, random) -> {
+            return new SpawnRuleEntry(0, 4, 0.3f, (type, world, spawnReason, pos, random) -> {
                 Block below = world.getBlockState(pos.below()).getBlock();
                 for (Block floor : floorBlocks) {
                     if (floor == below) {
@@ -191,6 +196,8 @@ public class SpawnRuleBuilder<M extends Mob> {
         entryInstance = getFromCache("with_chance_" + chance, () -> {
             return new SpawnRuleEntry(
                     1,
+                    1,
+                    1.0f / chance,
                     (type, world, spawnReason, pos, random) -> random.nextInt(chance) == 0,
                     "With Chance"
             );
@@ -209,6 +216,8 @@ public class SpawnRuleBuilder<M extends Mob> {
         entryInstance = getFromCache("below_brightness_" + lightLevel, () -> {
             return new SpawnRuleEntry(
                     2,
+                    6,
+                    0.5f,
                     (type, world, spawnReason, pos, random) -> world.getMaxLocalRawBrightness(pos) <= lightLevel,
                     "Below Brightness"
             );
@@ -227,6 +236,8 @@ public class SpawnRuleBuilder<M extends Mob> {
         entryInstance = getFromCache("above_brightness_" + lightLevel, () -> {
             return new SpawnRuleEntry(
                     2,
+                    6,
+                    0.5f,
                     (type, world, spawnReason, pos, random) -> world.getMaxLocalRawBrightness(pos) >= lightLevel,
                     "Above Brightness"
             );
@@ -265,8 +276,11 @@ public class SpawnRuleBuilder<M extends Mob> {
     public SpawnRuleBuilder maxNearby(EntityType<?> selectorType, int count, int side) {
         final Class<? extends Entity> baseClass = selectorType.getBaseClass();
         entryInstance = getFromCache("max_nearby_" + selectorType.getDescriptionId() + "_" + count + "_" + side, () -> {
-            return new SpawnRuleEntry(3, (type, world, spawnReason, pos, random) -> {
+            return new SpawnRuleEntry(3, 32, 0.9f, (type, world, spawnReason, pos, random) -> {
                 try {
+                    if (world instanceof ServerLevel serverLevel) {
+                        return NearbyEntityCounter.isBelowLimit(serverLevel, baseClass, pos, side, count);
+                    }
                     final AABB box = new AABB(pos).inflate(side, world.getHeight(), side);
                     final List<?> list = world.getEntitiesOfClass(baseClass, box, (entity) -> true);
                     return list.size() < count;
@@ -307,7 +321,7 @@ public class SpawnRuleBuilder<M extends Mob> {
      * @return same {@link SpawnRuleBuilder} instance.
      */
     public SpawnRuleBuilder customRule(SpawnRule rule) {
-        rules.add(new SpawnRuleEntry(7, rule, "Custom Rule"));
+        rules.add(new SpawnRuleEntry(7, 8, 0.5f, rule, "Custom Rule"));
         return this;
     }
 
@@ -318,27 +332,7 @@ public class SpawnRuleBuilder<M extends Mob> {
      * @param heightmapType {@link Types} heightmap type.
      */
     public void build(Type spawnType, Types heightmapType) {
-        final List<SpawnRuleEntry> rulesCopy = Lists.newArrayList(this.rules);
-        Collections.sort(rulesCopy);
-
-        SpawnPredicate<M> predicate = (entityType, serverLevelAccessor, mobSpawnType, blockPos, random) -> {
-            for (SpawnRuleEntry rule : rulesCopy) {
-                if (!rule.canSpawn(entityType, serverLevelAccessor, mobSpawnType, blockPos, random)) {
-//                    BCLib.LOGGER.info("Rejected Spawn of "
-//                            + entityType.getDescriptionId()
-//                            + " at " + blockPos.getX() + " " + blockPos.getY() + " " + blockPos.getZ()
-//                            + " because " + rule.debugName
-//                            + " at " + serverLevelAccessor.getBlockState(blockPos)
-//                            + " above " + serverLevelAccessor.getBlockState(blockPos.below())
-//                    );
-
-                    return false;
-                }
-            }
-//            BCLib.LOGGER.info("Spawning " + entityType.getDescriptionId() + " at " + blockPos.getX() + " " + blockPos.getY() + " " + blockPos.getZ() + "");
-            return true;
-        };
-
+        SpawnPredicate<M> predicate = CompiledSpawnRules.compile(entityType, this.rules);
         SpawnPlacements.register(entityType, spawnType, heightmapType, predicate);
     }
 
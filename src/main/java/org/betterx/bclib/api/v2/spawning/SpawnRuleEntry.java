@@ -14,12 +14,27 @@ import org.jetbrains.annotations.NotNull;
 public class SpawnRuleEntry<M extends Mob> implements Comparable<SpawnRuleEntry> {
     private final SpawnRule rule;
     private final byte priority;
-    //public final String debugName;
+    private final float cost;
+    private final float passRate;
+    public final String debugName;
 
     public SpawnRuleEntry(int priority, SpawnRule rule, String debugName) {
+        this(priority, 1 + priority, 0.5f, rule, debugName);
+    }
+
+    /**
+     * @param priority  The priority of the rule. Rules with a negative priority are always checked first.
+     * @param cost      Estimated relative cost of a single check
+     * @param passRate  Estimated probability that the check succeeds, between 0 and 1
+     * @param rule      The rule
+     * @param debugName The name that is displayed in the spawn rule profile
+     */
+    public SpawnRuleEntry(int priority, float cost, float passRate, SpawnRule rule, String debugName) {
         this.priority = (byte) priority;
+        this.cost = cost;
+        this.passRate = passRate;
         this.rule = rule;
-        //this.debugName = debugName;
+        this.debugName = debugName;
     }
 
     protected boolean canSpawn(
@@ -32,8 +47,19 @@ public class SpawnRuleEntry<M extends Mob> implements Comparable<SpawnRuleEntry>
         return rule.canSpawn(type, world, spawnReason, pos, random);
     }
 
+    /**
+     * The expected cost of this rule per rejected spawn. Checking rules in ascending rank minimizes the
+     * expected cost of a chain of rules that all have to pass.
+     */
+    float rank() {
+        return cost / Math.max(0.01f, 1 - passRate);
+    }
+
     @Override
     public int compareTo(@NotNull SpawnRuleEntry entry) {
-        return Integer.compare(priority, entry.priority);
+        if (priority < 0 || entry.priority < 0) return Integer.compare(priority, entry.priority);
+        int result = Float.compare(rank(), entry.rank());
+        if (result == 0) result = Integer.compare(priority, entry.priority);
+        return result;
     }
 }
@@ -4,6 +4,8 @@ import org.betterx.bclib.api.v3.levelgen.features.BCLConfigureFeature;
 import org.betterx.bclib.api.v3.tag.BCLBlockTags;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.ItemStack;
@@ -13,7 +15,12 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.Feature;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+
+import com.google.common.collect.Lists;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -22,6 +29,8 @@ public class BonemealAPI {
     public static BonemealAPI INSTANCE = new BonemealAPI();
     private final Map<TagKey<Block>, BonemealBlockSpreader> taggedSpreaders;
     private final Map<Block, FeatureSpreader> featureSpreaders;
+    //tagged spreaders by block, built lazily from the bound tags
+    private volatile Map<Block, List<BonemealBlockSpreader>> spreadersByBlock;
 
     private BonemealAPI() {
         taggedSpreaders = new HashMap<>();
@@ -68,6 +77,7 @@ public class BonemealAPI {
      */
     public void addSpreadableBlocks(@NotNull TagKey<Block> targetTag, @NotNull TagKey<Block> sourceTag) {
         taggedSpreaders.put(targetTag, new TaggedBonemealBlockSpreader(sourceTag));
+        spreadersByBlock = null;
     }
 
     /**
@@ -80,6 +90,7 @@ public class BonemealAPI {
      */
     public void addSpreadableBlocks(@NotNull TagKey<Block> targetTag, @NotNull BonemealBlockSpreader spreader) {
         taggedSpreaders.put(targetTag, spreader);
+        spreadersByBlock = null;
     }
 
     /**
@@ -97,15 +108,49 @@ public class BonemealAPI {
             BlockPos pos,
             @NotNull BlockState state
     ) {
-        for (var e : taggedSpreaders.entrySet()) {
-            if (state.is(e.getKey()) && e.getValue().canSpreadAt(blockGetter, pos)) {
-                return e.getValue();
+        Map<Block, List<BonemealBlockSpreader>> index = spreadersByBlock;
+        if (index == null) {
+            index = buildIndex();
+            spreadersByBlock = index;
+        }
+
+        final List<BonemealBlockSpreader> spreaders = index.get(state.getBlock());
+        if (spreaders != null) {
+            for (BonemealBlockSpreader spreader : spreaders) {
+                if (spreader.canSpreadAt(blockGetter, pos)) {
+                    return spreader;
+                }
             }
         }
 
         return null;
     }
 
+    private Map<Block, List<BonemealBlockSpreader>> buildIndex() {
+        final Map<Block, List<BonemealBlockSpreader>> index = new HashMap<>();
+        //keep the order of the tag map, so a block picks the same spreader as a scan over all tags would
+        for (var e : taggedSpreaders.entrySet()) {
+            for (Holder<Block> block : BuiltInRegistries.BLOCK.getTagOrEmpty(e.getKey())) {
+                index.computeIfAbsent(block.value(), b -> Lists.newArrayList()).add(e.getValue());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Drops the spreader index. It is rebuilt on the next lookup.
+     */
+    @ApiStatus.Internal
+    public void invalidateIndex() {
+        spreadersByBlock = null;
+    }
+
+    @ApiStatus.Internal
+    public static void register() {
+        //the index expands tags, so it becomes stale whenever new tags are bound
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> INSTANCE.invalidateIndex());
+    }
+
     @ApiStatus.Internal
     public FeatureSpreader featureSpreaderForState(@NotNull BlockState state) {
         return featureSpreaders.get(state.getBlock());
@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v3.bonemeal;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
@@ -53,18 +54,21 @@ public interface BonemealGrassLike extends BonemealableBlock {
     default void performBonemeal(ServerLevel serverLevel, RandomSource random, BlockPos pos, BlockState state) {
         final BlockPos above = pos.above();
         final BlockState growableState = getGrowableCoverState();
+        final Block hostBlock = getHostBlock();
+        final BlockPos.MutableBlockPos currentPos = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos belowPos = new BlockPos.MutableBlockPos();
 
         outerLoop:
         for (int bonemealAttempt = 0; bonemealAttempt < 128; ++bonemealAttempt) {
-            BlockPos currentPos = above;
+            currentPos.set(above);
 
             for (int j = 0; j < bonemealAttempt / 16; ++j) {
-                currentPos = currentPos.offset(
+                currentPos.move(
                         random.nextInt(3) - 1,
                         (random.nextInt(3) - 1) * random.nextInt(3) / 2,
                         random.nextInt(3) - 1
                 );
-                if (!serverLevel.getBlockState(currentPos.below()).is(getHostBlock())
+                if (!serverLevel.getBlockState(belowPos.setWithOffset(currentPos, Direction.DOWN)).is(hostBlock)
                         || serverLevel.getBlockState(currentPos)
                                       .isCollisionShapeFullBlock(serverLevel, currentPos)) {
                     continue outerLoop;
@@ -76,7 +80,7 @@ public interface BonemealGrassLike extends BonemealableBlock {
                 ((BonemealableBlock) growableState.getBlock()).performBonemeal(
                         serverLevel,
                         random,
-                        currentPos,
+                        currentPos.immutable(),
                         currentState
                 );
             }
@@ -95,7 +99,12 @@ public interface BonemealGrassLike extends BonemealableBlock {
                 }
 
                 boneFeature.value()
-                           .place(serverLevel, serverLevel.getChunkSource().getGenerator(), random, currentPos);
+                           .place(
+                                   serverLevel,
+                                   serverLevel.getChunkSource().getGenerator(),
+                                   random,
+                                   currentPos.immutable()
+                           );
             }
         }
 
@@ -1,5 +1,7 @@
 package org.betterx.bclib.api.v3.levelgen.features;
 
+import org.betterx.bclib.api.v3.levelgen.features.placement.Chain;
+
 import net.minecraft.core.Holder;
 import net.minecraft.data.worldgen.placement.PlacementUtils;
 import net.minecraft.resources.ResourceLocation;
@@ -59,7 +61,7 @@ public class BCLInlinePlacedBuilder<F extends Feature<FC>, FC extends FeatureCon
      * @return created {@link PlacedFeature} instance.
      */
     public BCLFeature.Unregistered<F, FC> build(BCLConfigureFeature feature) {
-        PlacementModifier[] modifiers = modifications.toArray(new PlacementModifier[modifications.size()]);
+        PlacementModifier[] modifiers = Chain.fuse(modifications).toArray(new PlacementModifier[0]);
         Holder<PlacedFeature> holder = PlacementUtils.inlinePlaced(
                 feature.configuredFeature,
                 modifiers
@@ -73,7 +75,7 @@ public class BCLInlinePlacedBuilder<F extends Feature<FC>, FC extends FeatureCon
      * @return created {@link PlacedFeature} instance.
      */
     public Holder<PlacedFeature> build(F feature, FC configuration) {
-        PlacementModifier[] modifiers = modifications.toArray(new PlacementModifier[modifications.size()]);
+        PlacementModifier[] modifiers = Chain.fuse(modifications).toArray(new PlacementModifier[0]);
         return PlacementUtils.inlinePlaced(feature, configuration, modifiers);
     }
 
@@ -1,5 +1,6 @@
 package org.betterx.bclib.api.v3.levelgen.features;
 
+import org.betterx.bclib.api.v3.levelgen.features.placement.Chain;
 import org.betterx.bclib.util.FullReferenceHolder;
 
 import net.minecraft.core.Holder;
@@ -81,7 +82,7 @@ public class BCLPlacedFeatureBuilder<F extends Feature<FC>, FC extends FeatureCo
         final ResourceKey<PlacedFeature> key = ResourceKey.create(Registries.PLACED_FEATURE, featureID);
         PlacedFeature pFeature = new PlacedFeature(
                 (Holder<ConfiguredFeature<?, ?>>) (Object) cFeature.configuredFeature,
-                List.copyOf(modifications)
+                List.copyOf(Chain.fuse(modifications))
         );
         FullReferenceHolder<PlacedFeature> holder = FullReferenceHolder.create(
                 Registries.PLACED_FEATURE,
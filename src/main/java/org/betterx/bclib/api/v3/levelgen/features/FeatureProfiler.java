@@ -0,0 +1,269 @@
+package org.betterx.bclib.api.v3.levelgen.features;
+
+import org.betterx.bclib.BCLib;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.levelgen.GenerationStep;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Collects timing statistics for every placed feature that is generated during the decoration of a chunk. This
+ * includes vanilla features and those of other mods, not only features registered through BCLib, so their cost
+ * can be compared.
+ * <p>
+ * Profiling is off by default and can be toggled with {@code /bclib profile worldgen}. While it is running,
+ * every placed feature records how often it ran, how many positions its placement modifiers produced, how many
+ * of those positions the feature actually placed something at, how many blocks it set and how much time was
+ * spent in the placement modifiers and in the feature itself. Statistics are kept per feature ID and
+ * {@link GenerationStep.Decoration} step and are collected with {@link LongAdder}s, so worker threads never
+ * wait for each other.
+ */
+public class FeatureProfiler {
+    private static final ResourceLocation INLINE = BCLib.makeID("inline");
+    private static final Map<Key, Counters> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Frame> FRAME = ThreadLocal.withInitial(Frame::new);
+    private static volatile boolean profiling = false;
+
+    private record Key(ResourceLocation id, int step) {
+    }
+
+    private static class Counters {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder positions = new LongAdder();
+        final LongAdder placements = new LongAdder();
+        final LongAdder blocks = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder featureNanos = new LongAdder();
+    }
+
+    /**
+     * The state of the placed feature the current thread is generating.
+     */
+    private static class Frame {
+        int step;
+        boolean active;
+        int depth;
+        long start;
+        long featureStart;
+        long featureNanos;
+        int positions;
+        int placements;
+        int blocks;
+    }
+
+    public record FeatureStats(
+            ResourceLocation id,
+            String step,
+            long invocations,
+            long positions,
+            long placements,
+            long blocks,
+            long nanos,
+            long featureNanos
+    ) {
+        public long placementNanos() {
+            return nanos - featureNanos;
+        }
+
+        public double rejectionRate() {
+            return positions == 0 ? 0 : 1.0 - (double) placements / positions;
+        }
+    }
+
+    /**
+     * Called when the chunk generator starts with the features of a new decoration step.
+     */
+    @ApiStatus.Internal
+    public static void onStep(int step) {
+        if (profiling) FRAME.get().step = step;
+    }
+
+    /**
+     * Called before a placed feature is generated during the decoration of a chunk.
+     */
+    @ApiStatus.Internal
+    public static void beginPlacement() {
+        if (!profiling) return;
+
+        final Frame frame = FRAME.get();
+        frame.active = true;
+        frame.depth = 0;
+        frame.featureNanos = 0;
+        frame.positions = 0;
+        frame.placements = 0;
+        frame.blocks = 0;
+        frame.start = System.nanoTime();
+    }
+
+    /**
+     * Called after a placed feature was generated and records its statistics.
+     */
+    @ApiStatus.Internal
+    public static void endPlacement(PlacedFeature feature, WorldGenLevel level) {
+        if (!profiling) return;
+
+        final Frame frame = FRAME.get();
+        if (!frame.active) return;
+        final long nanos = System.nanoTime() - frame.start;
+        frame.active = false;
+
+        ResourceLocation id = level.registryAccess()
+                                   .registryOrThrow(Registries.PLACED_FEATURE)
+                                   .getKey(feature);
+        final Counters counters = STATS.computeIfAbsent(
+                new Key(id == null ? INLINE : id, frame.step),
+                key -> new Counters()
+        );
+        counters.invocations.increment();
+        counters.positions.add(frame.positions);
+        counters.placements.add(frame.placements);
+        counters.blocks.add(frame.blocks);
+        counters.nanos.add(nanos);
+        counters.featureNanos.add(frame.featureNanos);
+    }
+
+    /**
+     * Called before a configured feature is placed at a position.
+     */
+    @ApiStatus.Internal
+    public static void beforeFeature() {
+        if (!profiling) return;
+        final Frame frame = FRAME.get();
+        if (frame.active && frame.depth++ == 0) {
+            frame.featureStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Called after a configured feature was placed at a position. Nested features are counted as part of the
+     * outermost one.
+     */
+    @ApiStatus.Internal
+    public static void afterFeature(boolean placed) {
+        if (!profiling) return;
+        final Frame frame = FRAME.get();
+        if (frame.active && frame.depth > 0 && --frame.depth == 0) {
+            frame.featureNanos += System.nanoTime() - frame.featureStart;
+            frame.positions++;
+            if (placed) frame.placements++;
+        }
+    }
+
+    /**
+     * Called whenever a block was changed in a generating region.
+     */
+    @ApiStatus.Internal
+    public static void onBlockPlaced() {
+        if (!profiling) return;
+        final Frame frame = FRAME.get();
+        if (frame.active) frame.blocks++;
+    }
+
+    /**
+     * Enables or disables the collection of feature statistics. Enabling resets all counters.
+     */
+    @ApiStatus.Internal
+    public static void setProfiling(boolean enabled) {
+        if (enabled) STATS.clear();
+        profiling = enabled;
+    }
+
+    @ApiStatus.Internal
+    public static boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * @return The collected statistics, sorted by total time
+     */
+    @ApiStatus.Internal
+    public static List<FeatureStats> getStats() {
+        final GenerationStep.Decoration[] steps = GenerationStep.Decoration.values();
+        List<FeatureStats> stats = Lists.newArrayList();
+        STATS.forEach((key, counters) -> stats.add(new FeatureStats(
+                key.id,
+                key.step >= 0 && key.step < steps.length
+                        ? steps[key.step].getName()
+                        : "step_" + key.step,
+                counters.invocations.sum(),
+                counters.positions.sum(),
+                counters.placements.sum(),
+                counters.blocks.sum(),
+                counters.nanos.sum(),
+                counters.featureNanos.sum()
+        )));
+        stats.sort(Comparator.comparingLong(FeatureStats::nanos).reversed());
+        return stats;
+    }
+
+    /**
+     * Writes the collected statistics to {@code worldgen.json} and {@code worldgen.csv} in the given folder.
+     *
+     * @param base The output folder
+     * @return The number of written entries
+     */
+    @ApiStatus.Internal
+    public static int dump(File base) throws IOException {
+        final List<FeatureStats> stats = getStats();
+        base.mkdirs();
+
+        final JsonArray json = new JsonArray();
+        final StringBuilder csv = new StringBuilder(
+                "id,step,invocations,positions,placements,blocks,total_ms,placement_ms,feature_ms,rejection_rate\n"
+        );
+        for (FeatureStats s : stats) {
+            final JsonObject obj = new JsonObject();
+            obj.addProperty("id", s.id().toString());
+            obj.addProperty("step", s.step());
+            obj.addProperty("invocations", s.invocations());
+            obj.addProperty("positions", s.positions());
+            obj.addProperty("placements", s.placements());
+            obj.addProperty("blocks", s.blocks());
+            obj.addProperty("total_ms", s.nanos() / 1_000_000.0);
+            obj.addProperty("placement_ms", s.placementNanos() / 1_000_000.0);
+            obj.addProperty("feature_ms", s.featureNanos() / 1_000_000.0);
+            obj.addProperty("rejection_rate", s.rejectionRate());
+            json.add(obj);
+
+            csv.append(String.format(
+                    Locale.ROOT,
+                    "%s,%s,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.4f\n",
+                    s.id(),
+                    s.step(),
+                    s.invocations(),
+                    s.positions(),
+                    s.placements(),
+                    s.blocks(),
+                    s.nanos() / 1_000_000.0,
+                    s.placementNanos() / 1_000_000.0,
+                    s.featureNanos() / 1_000_000.0,
+                    s.rejectionRate()
+            ));
+        }
+
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Files.writeString(new File(base, "worldgen.json").toPath(), gson.toJson(json), StandardCharsets.UTF_8);
+        Files.writeString(new File(base, "worldgen.csv").toPath(), csv.toString(), StandardCharsets.UTF_8);
+        return stats.size();
+    }
+}
@@ -2,11 +2,13 @@ package org.betterx.bclib.api.v3.levelgen.features.config;
 
 import org.betterx.bclib.api.v2.levelgen.structures.StructurePlacementType;
 import org.betterx.bclib.api.v2.levelgen.structures.StructureWorldNBT;
+import org.betterx.bclib.util.MHelper;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
 
 import java.util.List;
@@ -22,6 +24,7 @@ public class TemplateFeatureConfig implements FeatureConfiguration {
     );
 
     public final List<StructureWorldNBT> structures;
+    private final float[] cumulativeChance;
 
     public static StructureWorldNBT cfg(
             ResourceLocation location,
@@ -38,5 +41,21 @@ public class TemplateFeatureConfig implements FeatureConfiguration {
 
     public TemplateFeatureConfig(List<StructureWorldNBT> structures) {
         this.structures = structures;
+        this.cumulativeChance = new float[structures.size()];
+        float sum = 0;
+        for (int i = 0; i < cumulativeChance.length; i++) {
+            sum += structures.get(i).chance;
+            cumulativeChance[i] = sum;
+        }
+    }
+
+    /**
+     * Picks one of the structures, weighted by their chance.
+     *
+     * @param random The random source to use. It is not used if there is only one structure
+     * @return The selected structure
+     */
+    public StructureWorldNBT randomStructure(RandomSource random) {
+        return structures.get(MHelper.randomWeightedIndex(cumulativeChance, random));
     }
 }
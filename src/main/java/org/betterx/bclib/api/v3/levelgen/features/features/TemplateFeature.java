@@ -15,19 +15,7 @@ public class TemplateFeature<FC extends TemplateFeatureConfig> extends Feature<F
     }
 
     protected StructureWorldNBT randomStructure(TemplateFeatureConfig cfg, RandomSource random) {
-        if (cfg.structures.size() > 1) {
-            final float chanceSum = cfg.structures.parallelStream().map(c -> c.chance).reduce(0.0f, (p, c) -> p + c);
-            float rnd = random.nextFloat() * chanceSum;
-
-            for (StructureWorldNBT c : cfg.structures) {
-                rnd -= c.chance;
-                if (rnd <= 0) return c;
-            }
-        } else {
-            return cfg.structures.get(0);
-        }
-
-        return null;
+        return cfg.randomStructure(random);
     }
 
     @Override
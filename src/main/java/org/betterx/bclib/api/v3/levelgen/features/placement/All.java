@@ -7,10 +7,9 @@ import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-public class All extends PlacementModifier {
+public class All extends PlacementModifier implements BCLPlacementModifier {
     private static final All INSTANCE = new All();
     public static final Codec<All> CODEC = Codec.unit(All::new);
 
@@ -20,7 +19,17 @@ public class All extends PlacementModifier {
             RandomSource randomSource,
             BlockPos blockPos
     ) {
-        return IntStream.range(0, 16 * 16 - 1).mapToObj(i -> blockPos.offset(i & 0xF, 0, i >> 4));
+        return BCLPlacementModifier.getPositions(this, placementContext, randomSource, blockPos);
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        final int originX = BlockPos.getX(origin);
+        final int originY = BlockPos.getY(origin);
+        final int originZ = BlockPos.getZ(origin);
+        for (int i = 0; i < 16 * 16 - 1; i++) {
+            out.add(originX + (i & 0xF), originY, originZ + (i >> 4));
+        }
     }
 
     public static PlacementModifier simple() {
@@ -0,0 +1,18 @@
+package org.betterx.bclib.api.v3.levelgen.features.placement;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementFilter;
+
+/**
+ * A {@link PlacementFilter} that can be part of a {@link Chain}.
+ */
+public abstract class BCLPlacementFilter extends PlacementFilter implements BCLPlacementModifier {
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        if (shouldPlace(ctx, random, BlockPos.of(origin))) {
+            out.add(origin);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.betterx.bclib.api.v3.levelgen.features.placement;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+
+import java.util.stream.Stream;
+
+/**
+ * A {@link PlacementModifier} that can write its positions into a {@link PositionBuffer} instead of
+ * creating a {@link Stream}.
+ * <p>
+ * Consecutive modifiers of this kind are fused into a {@link Chain} by the feature builders, so a whole run
+ * of modifiers works on packed positions and only the final positions are turned into {@link BlockPos}.
+ */
+public interface BCLPlacementModifier {
+    /**
+     * Adds all positions this modifier generates for {@code origin} to {@code out}.
+     *
+     * @param ctx    The placement context
+     * @param random The random source of the placement
+     * @param origin The packed input position
+     * @param out    The buffer that receives the packed output positions
+     */
+    void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out);
+
+    /**
+     * Default implementation of {@link PlacementModifier#getPositions} for modifiers that implement this
+     * interface.
+     */
+    static Stream<BlockPos> getPositions(
+            BCLPlacementModifier modifier,
+            PlacementContext ctx,
+            RandomSource random,
+            BlockPos origin
+    ) {
+        final PositionBuffer buffer = PositionBuffer.acquire();
+        try {
+            modifier.collect(ctx, random, origin.asLong(), buffer);
+            return buffer.toStream();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Adds the positions of any modifier to {@code out}, using {@link #collect} if it is available.
+     */
+    static void collect(
+            PlacementModifier modifier,
+            PlacementContext ctx,
+            RandomSource random,
+            long origin,
+            PositionBuffer out
+    ) {
+        if (modifier instanceof BCLPlacementModifier bcl) {
+            bcl.collect(ctx, random, origin, out);
+        } else {
+            modifier.getPositions(ctx, random, BlockPos.of(origin)).forEach(pos -> out.add(pos.asLong()));
+        }
+    }
+}
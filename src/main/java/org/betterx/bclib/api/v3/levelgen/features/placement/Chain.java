@@ -0,0 +1,164 @@
+package org.betterx.bclib.api.v3.levelgen.features.placement;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+
+import com.google.common.collect.Lists;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies a list of modifiers one after another, like consecutive entries of a placed feature.
+ * <p>
+ * Positions are passed between the modifiers in pooled {@link PositionBuffer}s. Every position is handed to
+ * the next modifier before the following position is processed, and {@link #getPositions} produces the final
+ * positions lazily. Random values are therefore drawn, and blocks are read, in the same order as they are
+ * for the separate modifiers, interleaved with the placement of the feature.
+ */
+public class Chain extends PlacementModifier implements BCLPlacementModifier {
+    public static final Codec<Chain> CODEC = RecordCodecBuilder.create(instance -> instance
+            .group(
+                    ExtraCodecs.nonEmptyList(PlacementModifier.CODEC.listOf())
+                               .fieldOf("modifiers")
+                               .forGetter(a -> a.modifiers)
+            )
+            .apply(instance, Chain::new));
+
+    private final List<PlacementModifier> modifiers;
+    private final PlacementModifier[] stages;
+
+    public Chain(List<PlacementModifier> modifiers) {
+        this.modifiers = modifiers;
+        this.stages = modifiers.toArray(new PlacementModifier[0]);
+    }
+
+    /**
+     * Replaces every run of two or more consecutive {@link BCLPlacementModifier}s with a single {@link Chain}.
+     *
+     * @param modifiers The modifiers of a placed feature
+     * @return The fused modifiers
+     */
+    public static List<PlacementModifier> fuse(List<PlacementModifier> modifiers) {
+        final List<PlacementModifier> result = Lists.newArrayList();
+        final List<PlacementModifier> run = Lists.newArrayList();
+        for (PlacementModifier modifier : modifiers) {
+            if (modifier instanceof BCLPlacementModifier) {
+                run.add(modifier);
+            } else {
+                flushRun(run, result);
+                result.add(modifier);
+            }
+        }
+        flushRun(run, result);
+        return result;
+    }
+
+    private static void flushRun(List<PlacementModifier> run, List<PlacementModifier> result) {
+        if (run.size() > 1) {
+            result.add(new Chain(List.copyOf(run)));
+        } else {
+            result.addAll(run);
+        }
+        run.clear();
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        collect(0, ctx, random, origin, out);
+    }
+
+    private void collect(int stage, PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        if (stage == stages.length - 1) {
+            BCLPlacementModifier.collect(stages[stage], ctx, random, origin, out);
+            return;
+        }
+
+        final PositionBuffer buffer = PositionBuffer.acquire();
+        try {
+            BCLPlacementModifier.collect(stages[stage], ctx, random, origin, buffer);
+            for (int i = 0; i < buffer.size(); i++) {
+                collect(stage + 1, ctx, random, buffer.get(i), out);
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public Stream<BlockPos> getPositions(
+            PlacementContext placementContext,
+            RandomSource randomSource,
+            BlockPos blockPos
+    ) {
+        return StreamSupport.stream(
+                new DepthFirstSpliterator(placementContext, randomSource, blockPos.asLong()),
+                false
+        );
+    }
+
+    /**
+     * Walks the chain depth first and stops every time the last modifier produced a position.
+     */
+    private class DepthFirstSpliterator extends Spliterators.AbstractSpliterator<BlockPos> {
+        private final PlacementContext ctx;
+        private final RandomSource random;
+        private final PositionBuffer[] buffers = new PositionBuffer[stages.length];
+        private final int[] next = new int[stages.length];
+        private int depth;
+
+        DepthFirstSpliterator(PlacementContext ctx, RandomSource random, long origin) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.ctx = ctx;
+            this.random = random;
+            for (int i = 0; i < stages.length; i++) {
+                buffers[i] = PositionBuffer.acquire();
+            }
+            BCLPlacementModifier.collect(stages[0], ctx, random, origin, buffers[0]);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super BlockPos> action) {
+            if (depth == Integer.MIN_VALUE) return false;
+            while (depth >= 0) {
+                final PositionBuffer buffer = buffers[depth];
+                if (next[depth] >= buffer.size()) {
+                    depth--;
+                    continue;
+                }
+
+                final long pos = buffer.get(next[depth]++);
+                if (depth == stages.length - 1) {
+                    action.accept(BlockPos.of(pos));
+                    return true;
+                }
+
+                depth++;
+                buffers[depth].clear();
+                next[depth] = 0;
+                BCLPlacementModifier.collect(stages[depth], ctx, random, pos, buffers[depth]);
+            }
+
+            for (PositionBuffer buffer : buffers) {
+                buffer.release();
+            }
+            depth = Integer.MIN_VALUE;
+            return false;
+        }
+    }
+
+    @Override
+    public PlacementModifierType<?> type() {
+        return PlacementModifiers.CHAIN;
+    }
+}
@@ -13,7 +13,7 @@ import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
 import java.util.stream.Stream;
 
-public class Extend extends PlacementModifier {
+public class Extend extends PlacementModifier implements BCLPlacementModifier {
     public static final Codec<Extend> CODEC = RecordCodecBuilder.create((instance) -> instance
             .group(
                     Direction.CODEC
@@ -41,13 +41,21 @@ public class Extend extends PlacementModifier {
             RandomSource random,
             BlockPos blockPos
     ) {
-        var builder = Stream.<BlockPos>builder();
+        return BCLPlacementModifier.getPositions(this, placementContext, random, blockPos);
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
         final int count = length.sample(random);
-        builder.add(blockPos);
+        out.add(origin);
         for (int y = 1; y < count + 1; y++) {
-            builder.add(blockPos.relative(direction, y));
+            out.add(BlockPos.offset(
+                    origin,
+                    direction.getStepX() * y,
+                    direction.getStepY() * y,
+                    direction.getStepZ() * y
+            ));
         }
-        return builder.build();
     }
 
     @Override
@@ -18,7 +18,7 @@ import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 import java.util.List;
 import java.util.stream.Stream;
 
-public class FindSolidInDirection extends PlacementModifier {
+public class FindSolidInDirection extends PlacementModifier implements BCLPlacementModifier {
 
     public static final Codec<FindSolidInDirection> CODEC = RecordCodecBuilder
             .create((instance) -> instance.group(
@@ -103,22 +103,25 @@ public class FindSolidInDirection extends PlacementModifier {
             RandomSource randomSource,
             BlockPos blockPos
     ) {
-        var builder = Stream.<BlockPos>builder();
+        return BCLPlacementModifier.getPositions(this, placementContext, randomSource, blockPos);
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        final BlockPos blockPos = BlockPos.of(origin);
         if (randomSelect) {
-            submitSingle(placementContext, blockPos, builder, randomDirection(randomSource));
+            submitSingle(ctx, blockPos, out, randomDirection(random));
         } else {
             for (Direction d : direction) {
-                submitSingle(placementContext, blockPos, builder, d);
+                submitSingle(ctx, blockPos, out, d);
             }
         }
-
-        return builder.build();
     }
 
     private void submitSingle(
             PlacementContext placementContext,
             BlockPos blockPos,
-            Stream.Builder<BlockPos> builder,
+            PositionBuffer out,
             Direction d
     ) {
         int searchDist;
@@ -142,9 +145,9 @@ public class FindSolidInDirection extends PlacementModifier {
                 BlocksHelper::isTerrain
         )) {
             if (offsetInDir != 0)
-                builder.add(POS.move(d, offsetInDir));
+                out.add(POS.move(d, offsetInDir).asLong());
             else
-                builder.add(POS);
+                out.add(POS.asLong());
         }
     }
 
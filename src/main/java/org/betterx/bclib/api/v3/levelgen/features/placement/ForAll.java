@@ -12,7 +12,7 @@ import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 import java.util.List;
 import java.util.stream.Stream;
 
-public class ForAll extends PlacementModifier {
+public class ForAll extends PlacementModifier implements BCLPlacementModifier {
     public static final Codec<ForAll> CODEC = RecordCodecBuilder.create(instance -> instance
             .group(
                     ExtraCodecs.nonEmptyList(PlacementModifier.CODEC.listOf())
@@ -33,11 +33,14 @@ public class ForAll extends PlacementModifier {
             RandomSource randomSource,
             BlockPos blockPos
     ) {
-        Stream.Builder<BlockPos> stream = Stream.builder();
+        return BCLPlacementModifier.getPositions(this, placementContext, randomSource, blockPos);
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
         for (PlacementModifier p : modifiers) {
-            p.getPositions(placementContext, randomSource, blockPos).forEach(pp -> stream.add(pp));
+            BCLPlacementModifier.collect(p, ctx, random, origin, out);
         }
-        return stream.build();
     }
 
     @Override
@@ -8,13 +8,12 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
-import net.minecraft.world.level.levelgen.placement.PlacementFilter;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
 import java.util.List;
 import java.util.Optional;
 
-public class InBiome extends PlacementFilter {
+public class InBiome extends BCLPlacementFilter {
     public static final Codec<InBiome> CODEC = RecordCodecBuilder.create((instance) -> instance
             .group(
                     Codec.BOOL
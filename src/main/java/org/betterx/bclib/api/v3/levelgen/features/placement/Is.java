@@ -9,12 +9,11 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.blockpredicates.BlockPredicate;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
-import net.minecraft.world.level.levelgen.placement.PlacementFilter;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
 import java.util.Optional;
 
-public class Is extends PlacementFilter {
+public class Is extends BCLPlacementFilter {
     public static final Codec<Is> CODEC = RecordCodecBuilder.create((instance) -> instance
             .group(
                     BlockPredicate.CODEC
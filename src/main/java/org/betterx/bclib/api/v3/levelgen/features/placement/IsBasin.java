@@ -7,12 +7,11 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.blockpredicates.BlockPredicate;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
-import net.minecraft.world.level.levelgen.placement.PlacementFilter;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
 import java.util.Optional;
 
-public class IsBasin extends PlacementFilter {
+public class IsBasin extends BCLPlacementFilter {
     public static final Codec<IsBasin> CODEC = RecordCodecBuilder.create((instance) -> instance
             .group(
                     BlockPredicate.CODEC
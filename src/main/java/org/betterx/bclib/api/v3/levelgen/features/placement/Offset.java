@@ -15,7 +15,7 @@ import com.google.common.collect.Maps;
 import java.util.Map;
 import java.util.stream.Stream;
 
-public class Offset extends PlacementModifier {
+public class Offset extends PlacementModifier implements BCLPlacementModifier {
     private static final Map<Direction, Offset> DIRECTIONS = Maps.newHashMap();
     public static final Codec<Offset> CODEC = RecordCodecBuilder.create((instance) -> instance
             .group(
@@ -44,6 +44,11 @@ public class Offset extends PlacementModifier {
         return Stream.of(blockPos.offset(offset));
     }
 
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        out.add(BlockPos.offset(origin, offset.getX(), offset.getY(), offset.getZ()));
+    }
+
     @Override
     public PlacementModifierType<?> type() {
         return PlacementModifiers.OFFSET;
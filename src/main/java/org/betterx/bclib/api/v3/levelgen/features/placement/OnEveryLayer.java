@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v3.levelgen.features.placement;
 
 import org.betterx.bclib.util.BlocksHelper;
+import org.betterx.bclib.util.ColumnScanner;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
@@ -17,7 +18,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 public class OnEveryLayer
-        extends PlacementModifier {
+        extends PlacementModifier implements BCLPlacementModifier {
     private static final OnEveryLayer INSTANCE = new OnEveryLayer(Optional.empty(), Optional.empty());
     private static final OnEveryLayer INSTANCE_MIN_4 = new OnEveryLayer(Optional.of(4), Optional.empty());
     public static final Codec<OnEveryLayer> CODEC = RecordCodecBuilder.create(instance -> instance
@@ -50,26 +51,31 @@ public class OnEveryLayer
             RandomSource random,
             BlockPos pos
     ) {
+        return BCLPlacementModifier.getPositions(this, ctx, random, pos);
+    }
 
-        Stream.Builder<BlockPos> builder = Stream.builder();
-
-        final int z = pos.getZ();
-        final int x = pos.getX();
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        final int z = BlockPos.getZ(origin);
+        final int x = BlockPos.getX(origin);
         final int levelHeight = ctx.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
         final int minLevelHeight = ctx.getMinBuildHeight();
         int y = maxHeight.map(h -> Math.min(levelHeight, h)).orElse(levelHeight);
         final int minHeight = this.minHeight.map(h -> Math.max(minLevelHeight, h)).orElse(minLevelHeight);
 
-        int layerY;
-        do {
-            layerY = OnEveryLayer.findOnGroundYPosition(ctx, x, y, z, minHeight);
-            if (layerY != Integer.MAX_VALUE) {
-                builder.add(new BlockPos(x, layerY, z));
-                y = layerY - 1;
-            }
-
-        } while (layerY != Integer.MAX_VALUE);
-        return builder.build();
+        final ColumnScanner column = ColumnScanner.of(ctx.getLevel(), x, z);
+        while (true) {
+            final int layerY = column.findTransitionDown(
+                    y,
+                    minHeight,
+                    BlocksHelper::isFreeOrFluid,
+                    OnEveryLayer::isGround
+            );
+            if (layerY == ColumnScanner.NOT_FOUND) break;
+
+            out.add(x, layerY + 1, z);
+            y = layerY;
+        }
     }
 
     @Override
@@ -77,17 +83,7 @@ public class OnEveryLayer
         return PlacementModifiers.ON_EVERY_LAYER;
     }
 
-    private static int findOnGroundYPosition(PlacementContext ctx, int x, int startY, int z, int minHeight) {
-        BlockPos.MutableBlockPos mPos = new BlockPos.MutableBlockPos(x, startY, z);
-        BlockState nowState = ctx.getBlockState(mPos);
-        for (int y = startY; y >= minHeight + 1; --y) {
-            mPos.setY(y - 1);
-            BlockState belowState = ctx.getBlockState(mPos);
-            if (BlocksHelper.isTerrain(belowState) && BlocksHelper.isFreeOrFluid(nowState) && !belowState.is(Blocks.BEDROCK)) {
-                return mPos.getY() + 1;
-            }
-            nowState = belowState;
-        }
-        return Integer.MAX_VALUE;
+    private static boolean isGround(BlockState state) {
+        return BlocksHelper.isTerrain(state) && !state.is(Blocks.BEDROCK);
     }
 }
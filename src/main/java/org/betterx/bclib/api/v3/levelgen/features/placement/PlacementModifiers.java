@@ -32,6 +32,11 @@ public class PlacementModifiers {
             ForAll.CODEC
     );
 
+    public static final PlacementModifierType<Chain> CHAIN = register(
+            "chain",
+            Chain.CODEC
+    );
+
     public static final PlacementModifierType<FindSolidInDirection> SOLID_IN_DIR = register(
             "solid_in_dir",
             FindSolidInDirection.CODEC
@@ -0,0 +1,66 @@
+package org.betterx.bclib.api.v3.levelgen.features.placement;
+
+import net.minecraft.core.BlockPos;
+
+import com.google.common.collect.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A growable list of positions packed with {@link BlockPos#asLong()}.
+ * <p>
+ * Buffers are pooled per thread. Get one with {@link #acquire()} and hand it back with {@link #release()}
+ * once it is no longer read.
+ */
+public final class PositionBuffer {
+    private static final ThreadLocal<List<PositionBuffer>> POOL = ThreadLocal.withInitial(Lists::newArrayList);
+
+    private long[] positions = new long[64];
+    private int size;
+
+    private PositionBuffer() {
+    }
+
+    public static PositionBuffer acquire() {
+        final List<PositionBuffer> pool = POOL.get();
+        return pool.isEmpty() ? new PositionBuffer() : pool.remove(pool.size() - 1);
+    }
+
+    public void release() {
+        size = 0;
+        POOL.get().add(this);
+    }
+
+    public void add(long pos) {
+        if (size == positions.length) positions = Arrays.copyOf(positions, size << 1);
+        positions[size++] = pos;
+    }
+
+    public void add(int x, int y, int z) {
+        add(BlockPos.asLong(x, y, z));
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long get(int index) {
+        return positions[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a stream of the current content. The stream does not depend on the buffer, so the buffer can be
+     * released right away.
+     */
+    public Stream<BlockPos> toStream() {
+        if (size == 0) return Stream.empty();
+        if (size == 1) return Stream.of(BlockPos.of(positions[0]));
+        return Arrays.stream(Arrays.copyOf(positions, size)).mapToObj(BlockPos::of);
+    }
+}
@@ -9,15 +9,15 @@ import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
-public class Stencil extends PlacementModifier {
+public class Stencil extends PlacementModifier implements BCLPlacementModifier {
     public static final Codec<Stencil> CODEC;
     private static final Boolean[] BN_STENCIL;
     private final List<Boolean> stencil;
+    private final boolean[] mask;
     private static final Stencil DEFAULT;
     private static final Stencil DEFAULT4;
     private final int selectOneIn;
@@ -33,6 +33,10 @@ public class Stencil extends PlacementModifier {
     public Stencil(List<Boolean> stencil, int selectOneIn) {
         this.stencil = stencil;
         this.selectOneIn = selectOneIn;
+        this.mask = new boolean[stencil.size()];
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] = stencil.get(i);
+        }
     }
 
     public static Stencil all() {
@@ -49,16 +53,21 @@ public class Stencil extends PlacementModifier {
             RandomSource randomSource,
             BlockPos blockPos
     ) {
-        List<BlockPos> pos = new ArrayList<>(16 * 16);
+        return BCLPlacementModifier.getPositions(this, placementContext, randomSource, blockPos);
+    }
+
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        final int originX = BlockPos.getX(origin);
+        final int originY = BlockPos.getY(origin);
+        final int originZ = BlockPos.getZ(origin);
         for (int x = 0; x < 16; x++) {
             for (int y = 0; y < 16; y++) {
-                if (stencil.get(x << 4 | y)) {
-                    pos.add(blockPos.offset(x, 0, y));
+                if (mask[x << 4 | y]) {
+                    out.add(originX + x, originY, originZ + y);
                 }
             }
         }
-
-        return pos.stream();
     }
 
     @Override
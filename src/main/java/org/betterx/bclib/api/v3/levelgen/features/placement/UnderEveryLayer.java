@@ -1,6 +1,7 @@
 package org.betterx.bclib.api.v3.levelgen.features.placement;
 
 import org.betterx.bclib.util.BlocksHelper;
+import org.betterx.bclib.util.ColumnScanner;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
@@ -17,7 +18,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 public class UnderEveryLayer
-        extends PlacementModifier {
+        extends PlacementModifier implements BCLPlacementModifier {
     private static final UnderEveryLayer INSTANCE = new UnderEveryLayer(Optional.empty(), Optional.empty());
     private static final UnderEveryLayer INSTANCE_MIN_4 = new UnderEveryLayer(Optional.of(4), Optional.empty());
     public static final Codec<UnderEveryLayer> CODEC = RecordCodecBuilder.create(instance -> instance
@@ -50,26 +51,31 @@ public class UnderEveryLayer
             RandomSource random,
             BlockPos pos
     ) {
+        return BCLPlacementModifier.getPositions(this, ctx, random, pos);
+    }
 
-        Stream.Builder<BlockPos> builder = Stream.builder();
-
-        final int z = pos.getZ();
-        final int x = pos.getX();
+    @Override
+    public void collect(PlacementContext ctx, RandomSource random, long origin, PositionBuffer out) {
+        final int z = BlockPos.getZ(origin);
+        final int x = BlockPos.getX(origin);
         final int levelHeight = ctx.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
         final int minLevelHeight = ctx.getMinBuildHeight();
         int y = maxHeight.map(h -> Math.min(levelHeight, h)).orElse(levelHeight);
         final int minHeight = this.minHeight.map(h -> Math.max(minLevelHeight, h)).orElse(minLevelHeight);
 
-        int layerY;
-        do {
-            layerY = findUnderGroundYPosition(ctx, x, y, z, minHeight);
-            if (layerY != Integer.MAX_VALUE) {
-                builder.add(new BlockPos(x, layerY, z));
-                y = layerY - 1;
-            }
-
-        } while (layerY != Integer.MAX_VALUE);
-        return builder.build();
+        final ColumnScanner column = ColumnScanner.of(ctx.getLevel(), x, z);
+        while (true) {
+            final int layerY = column.findTransitionDown(
+                    y,
+                    minHeight,
+                    UnderEveryLayer::isGround,
+                    BlocksHelper::isFreeOrFluid
+            );
+            if (layerY == ColumnScanner.NOT_FOUND) break;
+
+            out.add(x, layerY, z);
+            y = layerY - 1;
+        }
     }
 
     @Override
@@ -77,17 +83,7 @@ public class UnderEveryLayer
         return PlacementModifiers.UNDER_EVERY_LAYER;
     }
 
-    private static int findUnderGroundYPosition(PlacementContext ctx, int x, int startY, int z, int minHeight) {
-        BlockPos.MutableBlockPos mPos = new BlockPos.MutableBlockPos(x, startY, z);
-        BlockState nowState = ctx.getBlockState(mPos);
-        for (int y = startY; y >= minHeight + 1; --y) {
-            mPos.setY(y - 1);
-            BlockState belowState = ctx.getBlockState(mPos);
-            if (BlocksHelper.isTerrain(nowState) && BlocksHelper.isFreeOrFluid(belowState) && !nowState.is(Blocks.BEDROCK)) {
-                return mPos.getY();
-            }
-            nowState = belowState;
-        }
-        return Integer.MAX_VALUE;
+    private static boolean isGround(BlockState state) {
+        return BlocksHelper.isTerrain(state) && !state.is(Blocks.BEDROCK);
     }
 }
@@ -6,10 +6,10 @@ import org.betterx.bclib.client.render.BCLRenderLayer;
 import org.betterx.bclib.interfaces.BlockModelProvider;
 import org.betterx.bclib.interfaces.RenderLayerProvider;
 import org.betterx.bclib.items.tool.BaseShearsItem;
-import org.betterx.bclib.util.MHelper;
 
 import net.minecraft.client.renderer.block.model.BlockModel;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.item.enchantment.Enchantments;
@@ -94,6 +94,7 @@ public class BaseLeavesBlock extends LeavesBlock implements BlockModelProvider,
             int dropRate
     ) {
         ItemStack tool = builder.getParameter(LootContextParams.TOOL);
+        RandomSource random = builder.getLevel().getRandom();
         if (tool != null) {
             if (BaseShearsItem.isShear(tool) || EnchantmentHelper.getItemEnchantmentLevel(
                     Enchantments.SILK_TOUCH,
@@ -102,12 +103,12 @@ public class BaseLeavesBlock extends LeavesBlock implements BlockModelProvider,
                 return Collections.singletonList(new ItemStack(leaveBlock));
             }
             int fortune = EnchantmentHelper.getItemEnchantmentLevel(Enchantments.BLOCK_FORTUNE, tool);
-            if (MHelper.RANDOM.nextInt(fortuneRate) <= fortune) {
+            if (random.nextInt(fortuneRate) <= fortune) {
                 return Lists.newArrayList(new ItemStack(sapling));
             }
             return Lists.newArrayList();
         }
-        return MHelper.RANDOM.nextInt(dropRate) == 0
+        return random.nextInt(dropRate) == 0
                 ? Lists.newArrayList(new ItemStack(sapling))
                 : Lists.newArrayList();
     }
@@ -3,7 +3,9 @@ package org.betterx.bclib.client;
 import org.betterx.bclib.api.v2.ModIntegrationAPI;
 import org.betterx.bclib.api.v2.PostInitAPI;
 import org.betterx.bclib.api.v2.dataexchange.DataExchangeAPI;
+import org.betterx.bclib.api.v2.levelgen.biomes.InternalBiomeAPI;
 import org.betterx.bclib.client.models.CustomModelBakery;
+import org.betterx.bclib.client.render.FogDensityGrid;
 import org.betterx.bclib.client.textures.AtlasSetManager;
 import org.betterx.bclib.client.textures.SpriteLister;
 import org.betterx.bclib.config.Configs;
@@ -18,6 +20,7 @@ import net.minecraft.resources.ResourceLocation;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.model.*;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -29,6 +32,13 @@ public class BCLibClient implements ClientModInitializer, ModelResourceProvider,
         WorldsTogetherClient.onInitializeClient();
         ModIntegrationAPI.registerAll();
         BaseBlockEntityRenders.register();
+        FogDensityGrid.register();
+        ClientPlayConnectionEvents.JOIN.register(
+                (handler, sender, client) -> InternalBiomeAPI.initClientRegistry(handler.registryAccess())
+        );
+        ClientPlayConnectionEvents.DISCONNECT.register(
+                (handler, client) -> InternalBiomeAPI.initClientRegistry(null)
+        );
         DataExchangeAPI.prepareClientside();
         PostInitAPI.postInit(true);
         modelBakery = new CustomModelBakery();
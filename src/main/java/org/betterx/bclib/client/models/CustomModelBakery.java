@@ -32,44 +32,50 @@ public class CustomModelBakery {
     }
 
     public void loadCustomModels(ResourceManager resourceManager) {
-        BuiltInRegistries.BLOCK.stream()
-                               .parallel()
-                               .filter(block -> block instanceof BlockModelProvider)
-                               .forEach(block -> {
-                                   ResourceLocation blockID = BuiltInRegistries.BLOCK.getKey(block);
-                                   ResourceLocation storageID = new ResourceLocation(
-                                           blockID.getNamespace(),
-                                           "blockstates/" + blockID.getPath() + ".json"
-                                   );
-                                   if (resourceManager.getResource(storageID).isEmpty()) {
-                                       addBlockModel(blockID, block);
-                                   }
-                                   storageID = new ResourceLocation(
-                                           blockID.getNamespace(),
-                                           "models/item/" + blockID.getPath() + ".json"
-                                   );
-                                   if (resourceManager.getResource(storageID).isEmpty()) {
-                                       addItemModel(blockID, (ItemModelProvider) block);
-                                   }
-                               });
+        PatternsHelper.onResourceReload(resourceManager);
+        try {
+            OBJBlockModel.clearCache();
+            BuiltInRegistries.BLOCK.stream()
+                                   .parallel()
+                                   .filter(block -> block instanceof BlockModelProvider)
+                                   .forEach(block -> {
+                                       ResourceLocation blockID = BuiltInRegistries.BLOCK.getKey(block);
+                                       ResourceLocation storageID = new ResourceLocation(
+                                               blockID.getNamespace(),
+                                               "blockstates/" + blockID.getPath() + ".json"
+                                       );
+                                       if (resourceManager.getResource(storageID).isEmpty()) {
+                                           addBlockModel(blockID, block);
+                                       }
+                                       storageID = new ResourceLocation(
+                                               blockID.getNamespace(),
+                                               "models/item/" + blockID.getPath() + ".json"
+                                       );
+                                       if (resourceManager.getResource(storageID).isEmpty()) {
+                                           addItemModel(blockID, (ItemModelProvider) block);
+                                       }
+                                   });
 
-        BuiltInRegistries.ITEM.stream()
-                              .parallel()
-                              .filter(item -> item instanceof ItemModelProvider || RecordItemModelProvider.has(item))
-                              .forEach(item -> {
-                                  ResourceLocation registryID = BuiltInRegistries.ITEM.getKey(item);
-                                  ResourceLocation storageID = new ResourceLocation(
-                                          registryID.getNamespace(),
-                                          "models/item/" + registryID.getPath() + ".json"
-                                  );
-                                  final ItemModelProvider provider = (item instanceof ItemModelProvider)
-                                          ? (ItemModelProvider) item
-                                          : RecordItemModelProvider.get(item);
+            BuiltInRegistries.ITEM.stream()
+                                  .parallel()
+                                  .filter(item -> item instanceof ItemModelProvider || RecordItemModelProvider.has(item))
+                                  .forEach(item -> {
+                                      ResourceLocation registryID = BuiltInRegistries.ITEM.getKey(item);
+                                      ResourceLocation storageID = new ResourceLocation(
+                                              registryID.getNamespace(),
+                                              "models/item/" + registryID.getPath() + ".json"
+                                      );
+                                      final ItemModelProvider provider = (item instanceof ItemModelProvider)
+                                              ? (ItemModelProvider) item
+                                              : RecordItemModelProvider.get(item);
 
-                                  if (resourceManager.getResource(storageID).isEmpty()) {
-                                      addItemModel(registryID, provider);
-                                  }
-                              });
+                                      if (resourceManager.getResource(storageID).isEmpty()) {
+                                          addItemModel(registryID, provider);
+                                      }
+                                  });
+        } finally {
+            PatternsHelper.onResourceReloadDone();
+        }
     }
 
     private void addBlockModel(ResourceLocation blockID, Block block) {
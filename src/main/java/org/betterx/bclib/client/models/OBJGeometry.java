@@ -0,0 +1,298 @@
+package org.betterx.bclib.client.models;
+
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.util.BlocksHelper;
+import org.betterx.bclib.util.MHelper;
+
+import com.mojang.math.Transformation;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.ModelState;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.joml.Vector3f;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parsed, immutable geometry of an OBJ file.
+ * <p>
+ * Geometry is shared between all {@link OBJBlockModel}s that load the same file with the same settings,
+ * and every geometry keeps the quads it baked for a given rotation and sprite set, so rotated variants
+ * of a block are only baked once. Both caches are dropped on every resource reload.
+ */
+@Environment(EnvType.CLIENT)
+class OBJGeometry {
+    private static final Map<GeometryKey, OBJGeometry> GEOMETRY_CACHE = Maps.newConcurrentMap();
+    private static final OBJGeometry EMPTY = new OBJGeometry(Lists.newArrayList(), emptyCullingMap());
+    static final BakedQuads EMPTY_BAKED = new BakedQuads(List.of(), emptyBakedMap());
+
+    final List<UnbakedQuad> quads;
+    final Map<Direction, List<UnbakedQuad>> culledQuads;
+    private final Map<BakeKey, BakedQuads> bakedCache = Maps.newConcurrentMap();
+
+    private OBJGeometry(List<UnbakedQuad> quads, Map<Direction, List<UnbakedQuad>> culledQuads) {
+        Map<Direction, List<UnbakedQuad>> culled = Maps.newEnumMap(Direction.class);
+        culledQuads.forEach((dir, list) -> culled.put(dir, List.copyOf(list)));
+        this.quads = List.copyOf(quads);
+        this.culledQuads = Collections.unmodifiableMap(culled);
+    }
+
+    static OBJGeometry get(
+            ResourceManager resourceManager,
+            ResourceLocation location,
+            Vector3f offset,
+            byte maxIndex,
+            boolean useCulling,
+            boolean useShading
+    ) {
+        GeometryKey key = new GeometryKey(location, offset.x(), offset.y(), offset.z(), maxIndex, useCulling, useShading);
+        return GEOMETRY_CACHE.computeIfAbsent(key, k -> load(resourceManager, k));
+    }
+
+    static void clearCache() {
+        GEOMETRY_CACHE.clear();
+    }
+
+    BakedQuads bake(TextureAtlasSprite[] sprites, ModelState modelState) {
+        //the empty geometry outlives reloads, so it must not keep sprites of old atlases alive
+        if (this == EMPTY) return EMPTY_BAKED;
+        return bakedCache.computeIfAbsent(
+                new BakeKey(modelState.getRotation(), List.of(sprites)),
+                key -> {
+                    List<BakedQuad> baked = quads.stream()
+                                                 .map(q -> q.bake(sprites, modelState))
+                                                 .toList();
+                    Map<Direction, List<BakedQuad>> bakedMap = Maps.newEnumMap(Direction.class);
+                    for (Direction dir : BlocksHelper.DIRECTIONS) {
+                        bakedMap.put(dir, culledQuads.get(dir)
+                                                     .stream()
+                                                     .map(q -> q.bake(sprites, modelState))
+                                                     .toList());
+                    }
+                    return new BakedQuads(baked, Collections.unmodifiableMap(bakedMap));
+                }
+        );
+    }
+
+    private static Map<Direction, List<UnbakedQuad>> emptyCullingMap() {
+        Map<Direction, List<UnbakedQuad>> map = Maps.newEnumMap(Direction.class);
+        for (Direction dir : BlocksHelper.DIRECTIONS) {
+            map.put(dir, Lists.newArrayList());
+        }
+        return map;
+    }
+
+    private static Map<Direction, List<BakedQuad>> emptyBakedMap() {
+        Map<Direction, List<BakedQuad>> map = Maps.newEnumMap(Direction.class);
+        for (Direction dir : BlocksHelper.DIRECTIONS) {
+            map.put(dir, List.of());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static OBJGeometry load(ResourceManager resourceManager, GeometryKey key) {
+        Resource resource = resourceManager.getResource(key.location).orElse(null);
+        if (resource == null) {
+            return EMPTY;
+        }
+
+        String source;
+        try (InputStream input = resource.open()) {
+            source = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            BCLib.LOGGER.error("Unable to load Model", e);
+            throw new RuntimeException(e);
+        }
+
+        return parse(source, key);
+    }
+
+    private static OBJGeometry parse(String source, GeometryKey key) {
+        final List<UnbakedQuad> quads = Lists.newArrayList();
+        final Map<Direction, List<UnbakedQuad>> culledQuads = emptyCullingMap();
+
+        float[] vertices = new float[96];
+        int vertexCount = 0;
+        float[] uvs = new float[64];
+        int uvCount = 0;
+
+        final int[] vertexIndex = new int[4];
+        final int[] uvIndex = new int[4];
+        final String[] tokens = new String[5];
+        final Vector3f[] positions = {new Vector3f(), new Vector3f(), new Vector3f()};
+
+        byte materialIndex = -1;
+
+        int lineStart = 0;
+        final int length = source.length();
+        while (lineStart < length) {
+            int lineEnd = source.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = length;
+            final int tokenCount = tokenize(source, lineStart, lineEnd, tokens);
+            lineStart = lineEnd + 1;
+            if (tokenCount == 0) continue;
+
+            final String type = tokens[0];
+            if (type.equals("usemtl")) {
+                materialIndex++;
+                if (materialIndex > key.maxIndex) {
+                    materialIndex = key.maxIndex;
+                }
+            } else if (type.equals("vt")) {
+                if (tokenCount < 3) continue;
+                if (uvCount + 2 > uvs.length) uvs = Arrays.copyOf(uvs, uvs.length * 2);
+                uvs[uvCount++] = Float.parseFloat(tokens[1]);
+                uvs[uvCount++] = Float.parseFloat(tokens[2]);
+            } else if (type.equals("v")) {
+                if (tokenCount < 4) continue;
+                if (vertexCount + 3 > vertices.length) vertices = Arrays.copyOf(vertices, vertices.length * 2);
+                vertices[vertexCount++] = Float.parseFloat(tokens[1]);
+                vertices[vertexCount++] = Float.parseFloat(tokens[2]);
+                vertices[vertexCount++] = Float.parseFloat(tokens[3]);
+            } else if (type.equals("f")) {
+                if (tokenCount != 5) {
+                    BCLib.LOGGER.warning("Only quads in OBJ are supported! Model [" + key.location + "] has n-gons or triangles!");
+                    continue;
+                }
+
+                boolean hasUV = true;
+                for (int i = 0; i < 4; i++) {
+                    final String member = tokens[i + 1];
+                    final int slash = member.indexOf('/');
+                    if (slash < 0) {
+                        vertexIndex[i] = Integer.parseInt(member) - 1;
+                        hasUV = false;
+                    } else {
+                        vertexIndex[i] = Integer.parseInt(member, 0, slash, 10) - 1;
+                        int uvEnd = member.indexOf('/', slash + 1);
+                        if (uvEnd < 0) uvEnd = member.length();
+                        if (uvEnd > slash + 1) {
+                            uvIndex[i] = Integer.parseInt(member, slash + 1, uvEnd, 10) - 1;
+                        } else {
+                            hasUV = false;
+                        }
+                    }
+                }
+
+                UnbakedQuad quad = new UnbakedQuad();
+                for (int i = 0; i < 4; i++) {
+                    int index = vertexIndex[i] * 3;
+                    int quadIndex = i * 5;
+                    quad.addData(quadIndex++, vertices[index++] + key.offsetX); // X
+                    quad.addData(quadIndex++, vertices[index++] + key.offsetY); // Y
+                    quad.addData(quadIndex++, vertices[index] + key.offsetZ);   // Z
+                    if (hasUV) {
+                        index = uvIndex[i] * 2;
+                        quad.addData(quadIndex++, uvs[index++] * 16F);   // U
+                        quad.addData(quadIndex, (1 - uvs[index]) * 16F); // V
+                    }
+                }
+                quad.setSpriteIndex(materialIndex);
+                if (key.useShading) {
+                    Direction dir = getNormalDirection(quad, positions);
+                    quad.setDirection(dir);
+                    quad.setShading(true);
+                }
+                if (key.useCulling) {
+                    Direction dir = getCullingDirection(quad, positions[0]);
+                    if (dir == null) {
+                        quads.add(quad);
+                    } else {
+                        culledQuads.get(dir).add(quad);
+                    }
+                } else {
+                    quads.add(quad);
+                }
+            }
+        }
+
+        if (materialIndex < 0) {
+            quads.forEach(quad -> quad.setSpriteIndex(0));
+            culledQuads.values().forEach(list -> list.forEach(quad -> quad.setSpriteIndex(0)));
+        }
+
+        return new OBJGeometry(quads, culledQuads);
+    }
+
+    /**
+     * Splits the given line at whitespace into {@code tokens}. Tokens beyond the size of the
+     * array are counted but not stored, and entries past the last token are cleared.
+     *
+     * @return The number of tokens on the line
+     */
+    private static int tokenize(String source, int start, int end, String[] tokens) {
+        int count = 0;
+        int pos = start;
+        while (pos < end) {
+            while (pos < end && Character.isWhitespace(source.charAt(pos))) pos++;
+            if (pos >= end) break;
+            int tokenStart = pos;
+            while (pos < end && !Character.isWhitespace(source.charAt(pos))) pos++;
+            if (count < tokens.length) tokens[count] = source.substring(tokenStart, pos);
+            count++;
+        }
+        if (count < tokens.length) Arrays.fill(tokens, count, tokens.length, null);
+        return count;
+    }
+
+    private static Direction getNormalDirection(UnbakedQuad quad, Vector3f[] positions) {
+        Vector3f pos = quad.getPos(0, positions[0]);
+        Vector3f dirA = quad.getPos(1, positions[1]);
+        Vector3f dirB = quad.getPos(2, positions[2]);
+        dirA.sub(pos);
+        dirB.sub(pos);
+        pos = MHelper.cross(dirA, dirB);
+        return Direction.getNearest(pos.x(), pos.y(), pos.z());
+    }
+
+    @Nullable
+    private static Direction getCullingDirection(UnbakedQuad quad, Vector3f position) {
+        Direction dir = null;
+        for (int i = 0; i < 4; i++) {
+            Vector3f pos = quad.getPos(i, position);
+            if (pos.x() < 1 && pos.x() > 0 && pos.y() < 1 && pos.y() > 0 && pos.z() < 1 && pos.z() > 0) {
+                return null;
+            }
+            Direction newDir = Direction.getNearest(pos.x() - 0.5F, pos.y() - 0.5F, pos.z() - 0.5F);
+            if (dir == null) {
+                dir = newDir;
+            } else if (newDir != dir) {
+                return null;
+            }
+        }
+        return dir;
+    }
+
+    record BakedQuads(List<BakedQuad> quads, Map<Direction, List<BakedQuad>> culledQuads) {
+    }
+
+    private record BakeKey(Transformation rotation, List<TextureAtlasSprite> sprites) {
+    }
+
+    private record GeometryKey(
+            ResourceLocation location,
+            float offsetX,
+            float offsetY,
+            float offsetZ,
+            byte maxIndex,
+            boolean useCulling,
+            boolean useShading
+    ) {
+    }
+}
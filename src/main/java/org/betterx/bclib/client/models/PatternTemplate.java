@@ -0,0 +1,107 @@
+package org.betterx.bclib.client.models;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import com.google.common.collect.Lists;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A model pattern split into literal text and {@code %slot%} placeholders.
+ * <p>
+ * Filling the template is a single pass over the pre-split segments, instead of one
+ * {@link String#replace(CharSequence, CharSequence)} over the whole json per texture.
+ */
+@Environment(EnvType.CLIENT)
+class PatternTemplate {
+    private final String source;
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private PatternTemplate(String source, List<String> literals, List<String> slots) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.slots = slots.toArray(new String[0]);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    static PatternTemplate parse(String source) {
+        List<String> literals = Lists.newArrayList();
+        List<String> slots = Lists.newArrayList();
+        int start = 0;
+        int pos = 0;
+        while ((pos = source.indexOf('%', pos)) >= 0) {
+            int end = source.indexOf('%', pos + 1);
+            if (end < 0) break;
+            if (isSlotName(source, pos + 1, end)) {
+                literals.add(source.substring(start, pos));
+                slots.add(source.substring(pos, end + 1));
+                start = end + 1;
+                pos = end + 1;
+            } else {
+                pos = end;
+            }
+        }
+        literals.add(source.substring(start));
+        return new PatternTemplate(source, literals, slots);
+    }
+
+    private static boolean isSlotName(String source, int from, int to) {
+        if (from >= to) return false;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '_') return false;
+        }
+        return true;
+    }
+
+    String source() {
+        return source;
+    }
+
+    /**
+     * Checks if {@link #apply(Map)} produces the same json as replacing each key in turn. That is the case if
+     * every key is a {@code %slot%} placeholder and no value contains a {@code %} that a later replacement
+     * could pick up.
+     */
+    static boolean canApply(Map<String, String> values) {
+        for (Map.Entry<String, String> e : values.entrySet()) {
+            final String key = e.getKey();
+            if (key.length() < 3 || key.charAt(0) != '%' || key.charAt(key.length() - 1) != '%') return false;
+            if (!isSlotName(key, 1, key.length() - 1)) return false;
+            if (e.getValue().indexOf('%') >= 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces every key in turn, like patterns were filled before they were split into templates.
+     */
+    String replace(Map<String, String> values) {
+        String json = source;
+        for (Map.Entry<String, String> e : values.entrySet()) {
+            json = json.replace(e.getKey(), e.getValue());
+        }
+        return json;
+    }
+
+    /**
+     * Fills all slots with the matching values. Slots without a value are kept as they are.
+     *
+     * @param values Values keyed by the full placeholder (for example {@code %texture%})
+     * @return The resulting json
+     */
+    String apply(Map<String, String> values) {
+        StringBuilder sb = new StringBuilder(literalLength + slots.length * 32);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            String value = values.get(slots[i]);
+            sb.append(value == null ? slots[i] : value);
+        }
+        sb.append(literals[slots.length]);
+        return sb.toString();
+    }
+}
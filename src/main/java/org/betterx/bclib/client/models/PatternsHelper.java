@@ -11,12 +11,14 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class PatternsHelper {
-    private static final Map<ResourceLocation, String> JSON_CACHE = Maps.newConcurrentMap();
+    private static final Map<ResourceLocation, CachedPattern> PATTERN_CACHE = Maps.newConcurrentMap();
+    private static volatile ResourceManager activeManager;
 
     public static Optional<String> createItemGenerated(ResourceLocation itemId) {
         return createJson(BasePatterns.ITEM_GENERATED, itemId);
@@ -54,23 +56,92 @@ public class PatternsHelper {
     }
 
     public static Optional<String> createJson(ResourceLocation patternId, Map<String, String> textures) {
-        ResourceManager resourceManager = Minecraft.getInstance().getResourceManager();
+        CachedPattern pattern = PATTERN_CACHE.get(patternId);
+        if (pattern == null) {
+            pattern = loadPattern(getResourceManager(), patternId);
+            if (pattern == null) return Optional.empty();
+            PATTERN_CACHE.put(patternId, pattern);
+        }
+        if (!PatternTemplate.canApply(textures)) {
+            return Optional.of(pattern.template.replace(textures));
+        }
+
+        String json = pattern.results.get(textures);
+        if (json == null) {
+            json = pattern.previous.get(textures);
+            if (json == null) json = pattern.template.apply(textures);
+            pattern.results.putIfAbsent(new HashMap<>(textures), json);
+        }
+        return Optional.of(json);
+    }
+
+    /**
+     * Called at the start of a resource reload. Patterns whose source did not change keep their
+     * template and generated json, everything else is dropped and loaded again on demand. Json that is
+     * not requested again during the reload is dropped once it is done.
+     *
+     * @param resourceManager The {@link ResourceManager} used for the current reload
+     */
+    public static void onResourceReload(ResourceManager resourceManager) {
+        activeManager = resourceManager;
+        PATTERN_CACHE.entrySet().removeIf(entry -> {
+            String json = readPattern(resourceManager, entry.getKey());
+            return json == null || !json.equals(entry.getValue().template.source());
+        });
+        PATTERN_CACHE.values().forEach(CachedPattern::retire);
+    }
+
+    /**
+     * Called at the end of a resource reload, so the {@link ResourceManager} of the reload is not kept alive.
+     */
+    public static void onResourceReloadDone() {
+        activeManager = null;
+        PATTERN_CACHE.values().forEach(CachedPattern::dropRetired);
+    }
+
+    private static ResourceManager getResourceManager() {
+        ResourceManager resourceManager = activeManager;
+        return resourceManager == null ? Minecraft.getInstance().getResourceManager() : resourceManager;
+    }
+
+    private static CachedPattern loadPattern(ResourceManager resourceManager, ResourceLocation patternId) {
+        String json = readPattern(resourceManager, patternId);
+        if (json == null) return null;
+        return new CachedPattern(PatternTemplate.parse(json));
+    }
+
+    private static String readPattern(ResourceManager resourceManager, ResourceLocation patternId) {
         Optional<Resource> patternRes = resourceManager.getResource(patternId);
-        if (patternRes.isEmpty()) return Optional.empty();
+        if (patternRes.isEmpty()) return null;
 
         try (InputStream input = patternRes.get().open()) {
-            String json = JSON_CACHE.get(patternId);
-            if (json == null) {
-                json = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)).lines()
-                                                                                               .collect(Collectors.joining());
-                JSON_CACHE.put(patternId, json);
-            }
-            for (Map.Entry<String, String> texture : textures.entrySet()) {
-                json = json.replace(texture.getKey(), texture.getValue());
-            }
-            return Optional.of(json);
+            return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)).lines()
+                                                                                           .collect(Collectors.joining());
         } catch (Exception ex) {
-            return Optional.empty();
+            return null;
+        }
+    }
+
+    private static class CachedPattern {
+        final PatternTemplate template;
+        volatile Map<Map<String, String>, String> results = Maps.newConcurrentMap();
+        volatile Map<Map<String, String>, String> previous = Map.of();
+
+        CachedPattern(PatternTemplate template) {
+            this.template = template;
+        }
+
+        /**
+         * Keeps the json of the last reload around until the current one is done, so only json that
+         * is requested again survives.
+         */
+        void retire() {
+            previous = results;
+            results = Maps.newConcurrentMap();
+        }
+
+        void dropRetired() {
+            previous = Map.of();
         }
     }
 }
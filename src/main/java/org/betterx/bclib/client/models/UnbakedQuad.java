@@ -14,7 +14,6 @@ import org.joml.Vector4f;
 
 @Environment(EnvType.CLIENT)
 public class UnbakedQuad {
-    private static final Vector4f POS = new Vector4f();
     private final float[] data = new float[20]; // 4 points with 3 positions and 2 uvs, 4 * (3 + 2)
     private Direction dir = Direction.UP;
     private boolean useShading = false;
@@ -47,6 +46,7 @@ public class UnbakedQuad {
 
     public BakedQuad bake(TextureAtlasSprite[] sprites, ModelState modelState) {
         Matrix4f matrix = modelState.getRotation().getMatrix();
+        Vector4f pos = new Vector4f();
         TextureAtlasSprite sprite = sprites[spriteIndex];
         int[] vertexData = new int[32];
         for (int i = 0; i < 4; i++) {
@@ -55,11 +55,11 @@ public class UnbakedQuad {
             float x = data[dataIndex++]; // X
             float y = data[dataIndex++]; // Y
             float z = data[dataIndex++]; // Z
-            POS.set(x, y, z, 0);
-            POS.mul(matrix);
-            vertexData[index] = Float.floatToIntBits(POS.x());     // X
-            vertexData[index | 1] = Float.floatToIntBits(POS.y()); // Y
-            vertexData[index | 2] = Float.floatToIntBits(POS.z()); // Z
+            pos.set(x, y, z, 0);
+            pos.mul(matrix);
+            vertexData[index] = Float.floatToIntBits(pos.x());     // X
+            vertexData[index | 1] = Float.floatToIntBits(pos.y()); // Y
+            vertexData[index | 2] = Float.floatToIntBits(pos.z()); // Z
             vertexData[index | 3] = -1; // Unknown constant
             vertexData[index | 4] = Float.floatToIntBits(sprite.getU(data[dataIndex++])); // U
             vertexData[index | 5] = Float.floatToIntBits(sprite.getV(data[dataIndex]));   // V
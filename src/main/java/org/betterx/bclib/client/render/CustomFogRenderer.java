@@ -1,8 +1,5 @@
 package org.betterx.bclib.client.render;
 
-import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiome;
-import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiomeRegistry;
-import org.betterx.bclib.api.v2.levelgen.biomes.BiomeAPI;
 import org.betterx.bclib.config.Configs;
 import org.betterx.bclib.util.BackgroundInfo;
 import org.betterx.bclib.util.MHelper;
@@ -16,12 +13,10 @@ import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.material.FogType;
 
 public class CustomFogRenderer {
     private static final MutableBlockPos LAST_POS = new MutableBlockPos(0, -100, 0);
-    private static final MutableBlockPos MUT_POS = new MutableBlockPos();
     private static final float[] FOG_DENSITY = new float[8];
     private static final int GRID_SIZE = 32;
     private static float fogStart = 0;
@@ -116,17 +111,7 @@ public class CustomFogRenderer {
     }
 
     private static boolean shouldIgnore(Level level, int x, int y, int z) {
-        Biome biome = level.getBiome(MUT_POS.set(x, y, z)).value();
-        return BCLBiomeRegistry.isEmptyBiome(BiomeAPI.getRenderBiome(biome));
-    }
-
-    private static float getFogDensityI(Level level, int x, int y, int z) {
-        Biome biome = level.getBiome(MUT_POS.set(x, y, z)).value();
-        BCLBiome renderBiome = BiomeAPI.getRenderBiome(biome);
-        if (renderBiome == null) {
-            return BCLBiomeRegistry.EMPTY_BIOME.settings.getFogDensity();
-        }
-        return renderBiome.settings.getFogDensity();
+        return FogDensityGrid.isEmpty(level, x, y, z);
     }
 
     private static float getFogDensity(Level level, double x, double y, double z) {
@@ -142,14 +127,14 @@ public class CustomFogRenderer {
             int y2 = y1 + GRID_SIZE;
             int z2 = z1 + GRID_SIZE;
             LAST_POS.set(x1, y1, z1);
-            FOG_DENSITY[0] = getFogDensityI(level, x1, y1, z1);
-            FOG_DENSITY[1] = getFogDensityI(level, x2, y1, z1);
-            FOG_DENSITY[2] = getFogDensityI(level, x1, y2, z1);
-            FOG_DENSITY[3] = getFogDensityI(level, x2, y2, z1);
-            FOG_DENSITY[4] = getFogDensityI(level, x1, y1, z2);
-            FOG_DENSITY[5] = getFogDensityI(level, x2, y1, z2);
-            FOG_DENSITY[6] = getFogDensityI(level, x1, y2, z2);
-            FOG_DENSITY[7] = getFogDensityI(level, x2, y2, z2);
+            FOG_DENSITY[0] = FogDensityGrid.getFogDensity(level, x1, y1, z1);
+            FOG_DENSITY[1] = FogDensityGrid.getFogDensity(level, x2, y1, z1);
+            FOG_DENSITY[2] = FogDensityGrid.getFogDensity(level, x1, y2, z1);
+            FOG_DENSITY[3] = FogDensityGrid.getFogDensity(level, x2, y2, z1);
+            FOG_DENSITY[4] = FogDensityGrid.getFogDensity(level, x1, y1, z2);
+            FOG_DENSITY[5] = FogDensityGrid.getFogDensity(level, x2, y1, z2);
+            FOG_DENSITY[6] = FogDensityGrid.getFogDensity(level, x1, y2, z2);
+            FOG_DENSITY[7] = FogDensityGrid.getFogDensity(level, x2, y2, z2);
         }
 
         float a = Mth.lerp(dx, FOG_DENSITY[0], FOG_DENSITY[1]);
@@ -0,0 +1,156 @@
+package org.betterx.bclib.client.render;
+
+import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiome;
+import org.betterx.bclib.api.v2.levelgen.biomes.BCLBiomeRegistry;
+import org.betterx.bclib.api.v2.levelgen.biomes.BiomeAPI;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.Holder;
+import net.minecraft.core.QuartPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Client side lookup of the render biome for every loaded chunk section.
+ * <p>
+ * Every section stores the render biome of each of its 4x4x4 quarts (the resolution biomes are stored at).
+ * Sections that only contain one biome share a single entry array instead. The quarts are resolved once when
+ * the chunk arrives on the client or its biomes are replaced, and dropped again when it is unloaded, so fog
+ * rendering only needs a hash lookup per sample instead of a biome query. All access happens on the client
+ * thread.
+ */
+@Environment(EnvType.CLIENT)
+public class FogDensityGrid {
+    private static final Long2ObjectOpenHashMap<BCLBiome[]> SECTIONS = new Long2ObjectOpenHashMap<>();
+    private static final Map<BCLBiome, BCLBiome[]> UNIFORM = new IdentityHashMap<>();
+    private static Level lastLevel;
+
+    public static void register() {
+        ClientChunkEvents.CHUNK_LOAD.register(FogDensityGrid::onChunkLoad);
+        ClientChunkEvents.CHUNK_UNLOAD.register(FogDensityGrid::onChunkUnload);
+    }
+
+    private static void onChunkLoad(ClientLevel level, LevelChunk chunk) {
+        checkLevel(level);
+        fillChunk(chunk);
+    }
+
+    private static void onChunkUnload(ClientLevel level, LevelChunk chunk) {
+        if (level != lastLevel) return;
+        final int cx = chunk.getPos().x;
+        final int cz = chunk.getPos().z;
+        for (int sy = chunk.getMinSection(); sy < chunk.getMaxSection(); sy++) {
+            SECTIONS.remove(SectionPos.asLong(cx, sy, cz));
+        }
+    }
+
+    /**
+     * Called after the server replaced the biomes of loaded chunks (for example through {@code /fillbiome}).
+     */
+    @ApiStatus.Internal
+    public static void onBiomesReplaced(ClientLevel level, ChunkPos pos) {
+        if (level != lastLevel || !level.hasChunk(pos.x, pos.z)) return;
+        fillChunk(level.getChunk(pos.x, pos.z));
+    }
+
+    private static void checkLevel(Level level) {
+        if (level != lastLevel) {
+            SECTIONS.clear();
+            UNIFORM.clear();
+            lastLevel = level;
+        }
+    }
+
+    private static void fillChunk(ChunkAccess chunk) {
+        final int cx = chunk.getPos().x;
+        final int cz = chunk.getPos().z;
+        final LevelChunkSection[] sections = chunk.getSections();
+        for (int i = 0; i < sections.length; i++) {
+            final int sy = chunk.getSectionYFromSectionIndex(i);
+            SECTIONS.put(SectionPos.asLong(cx, sy, cz), resolve(sections[i].getBiomes()));
+        }
+    }
+
+    private static BCLBiome[] resolve(PalettedContainerRO<Holder<Biome>> container) {
+        final Holder<Biome> first = container.get(0, 0, 0);
+        if (!container.maybeHas(holder -> holder != first)) {
+            return UNIFORM.computeIfAbsent(getRenderBiome(first), biome -> new BCLBiome[]{biome});
+        }
+
+        //mixed sections only have a few distinct biomes, each of them is resolved once
+        final BCLBiome[] biomes = new BCLBiome[64];
+        final List<Holder<Biome>> holders = new ArrayList<>(4);
+        final List<BCLBiome> resolved = new ArrayList<>(4);
+        for (int i = 0; i < 64; i++) {
+            final Holder<Biome> holder = container.get(i & 3, (i >> 2) & 3, i >> 4);
+            int index = holders.indexOf(holder);
+            if (index < 0) {
+                index = holders.size();
+                holders.add(holder);
+                resolved.add(getRenderBiome(holder));
+            }
+            biomes[i] = resolved.get(index);
+        }
+        return biomes;
+    }
+
+    private static BCLBiome getRenderBiome(Holder<Biome> holder) {
+        final BCLBiome biome = BiomeAPI.getRenderBiome(holder.value());
+        return biome == null ? BCLBiomeRegistry.EMPTY_BIOME : biome;
+    }
+
+    /**
+     * Returns the render biome of the quart containing the given block position.
+     *
+     * @param level The client level
+     * @param x     block x
+     * @param y     block y, clamped to the build height
+     * @param z     block z
+     * @return The {@link BCLBiome} for the quart, or {@link BCLBiomeRegistry#EMPTY_BIOME}
+     */
+    public static BCLBiome getBiome(Level level, int x, int y, int z) {
+        checkLevel(level);
+        final int sx = SectionPos.blockToSectionCoord(x);
+        final int sz = SectionPos.blockToSectionCoord(z);
+        final int by = Math.max(level.getMinBuildHeight(), Math.min(level.getMaxBuildHeight() - 1, y));
+        final long key = SectionPos.asLong(sx, SectionPos.blockToSectionCoord(by), sz);
+
+        BCLBiome[] biomes = SECTIONS.get(key);
+        if (biomes == null && level.hasChunk(sx, sz)) {
+            fillChunk(level.getChunk(sx, sz));
+            biomes = SECTIONS.get(key);
+        }
+        if (biomes == null) return BCLBiomeRegistry.EMPTY_BIOME;
+        if (biomes.length == 1) return biomes[0];
+        final int index = (QuartPos.fromBlock(x) & 3)
+                | (QuartPos.fromBlock(by) & 3) << 2
+                | (QuartPos.fromBlock(z) & 3) << 4;
+        return biomes[index];
+    }
+
+    public static float getFogDensity(Level level, int x, int y, int z) {
+        return getBiome(level, x, y, z).settings.getFogDensity();
+    }
+
+    public static boolean isEmpty(Level level, int x, int y, int z) {
+        return BCLBiomeRegistry.isEmptyBiome(getBiome(level, x, y, z));
+    }
+}
@@ -0,0 +1,318 @@
+package org.betterx.bclib.commands;
+
+import org.betterx.bclib.config.Configs;
+import org.betterx.bclib.util.BlockEditBuffer;
+import org.betterx.bclib.util.BlocksHelper;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.Clearable;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A block edit over a large area that runs on the server thread, spread over several ticks.
+ * <p>
+ * The area is processed one chunk section at a time. Every tick, running jobs edit sections until the
+ * per-tick budget from the server config ({@code commands/jobTickBudgetMs}) is used up. Before a section is
+ * changed, a copy of its states and of the data of the block entities in the area is kept, so a finished or
+ * cancelled job can be undone.
+ */
+public class BlockEditJob {
+    @FunctionalInterface
+    public interface Editor {
+        /**
+         * @param x       block x
+         * @param y       block y
+         * @param z       block z
+         * @param current the current state at the position
+         * @return The new state, or {@code null} to keep the current one
+         */
+        @Nullable
+        BlockState apply(int x, int y, int z, BlockState current);
+    }
+
+    private record SectionUndo(PalettedContainer<BlockState> states, Map<BlockPos, CompoundTag> blockEntities) {
+    }
+
+    private static final List<BlockEditJob> RUNNING = Lists.newArrayList();
+    @Nullable
+    private static BlockEditJob lastJob;
+
+    public final String name;
+    private final CommandSourceStack source;
+    private final ServerLevel level;
+    private final BoundingBox area;
+    private final Editor editor;
+    private final long[] sections;
+    private final boolean recordUndo;
+    private final Long2ObjectLinkedOpenHashMap<SectionUndo> undo = new Long2ObjectLinkedOpenHashMap<>();
+    @Nullable
+    private final Long2ObjectLinkedOpenHashMap<SectionUndo> restore;
+    private int next;
+    private int reportedQuarter;
+    private long changedBlocks;
+
+    private BlockEditJob(
+            String name,
+            CommandSourceStack source,
+            ServerLevel level,
+            BoundingBox area,
+            Editor editor,
+            long[] sections,
+            @Nullable Long2ObjectLinkedOpenHashMap<SectionUndo> restore
+    ) {
+        this.name = name;
+        this.source = source;
+        this.level = level;
+        this.area = area;
+        this.editor = editor;
+        this.sections = sections;
+        this.recordUndo = restore == null;
+        this.restore = restore;
+    }
+
+    /**
+     * Creates a job that runs the editor for every block in the area.
+     *
+     * @param name   The name that is shown in progress messages
+     * @param source The command source that receives the progress messages
+     * @param area   The area to edit, inclusive
+     * @param editor Calculates the new state of a block
+     * @return The new job. Use {@link #start(BlockEditJob)} to run it
+     */
+    public static BlockEditJob create(String name, CommandSourceStack source, BoundingBox area, Editor editor) {
+        final ServerLevel level = source.getLevel();
+        final int minSectionY = SectionPos.blockToSectionCoord(Math.max(area.minY(), level.getMinBuildHeight()));
+        final int maxSectionY = SectionPos.blockToSectionCoord(Math.min(area.maxY(), level.getMaxBuildHeight() - 1));
+        final int minSectionX = SectionPos.blockToSectionCoord(area.minX());
+        final int maxSectionX = SectionPos.blockToSectionCoord(area.maxX());
+        final int minSectionZ = SectionPos.blockToSectionCoord(area.minZ());
+        final int maxSectionZ = SectionPos.blockToSectionCoord(area.maxZ());
+
+        final int count = Math.max(0, maxSectionY - minSectionY + 1)
+                * (maxSectionX - minSectionX + 1)
+                * (maxSectionZ - minSectionZ + 1);
+        final long[] sections = new long[count];
+        int i = 0;
+        //bottom up and column by column, like the single block loops this replaces
+        for (int sy = minSectionY; sy <= maxSectionY; sy++) {
+            for (int sx = minSectionX; sx <= maxSectionX; sx++) {
+                for (int sz = minSectionZ; sz <= maxSectionZ; sz++) {
+                    sections[i++] = SectionPos.asLong(sx, sy, sz);
+                }
+            }
+        }
+        return new BlockEditJob(name, source, level, area, editor, sections, null);
+    }
+
+    private BlockEditJob createUndo(CommandSourceStack source) {
+        final long[] undoSections = undo.keySet().toLongArray();
+        //restore in reverse order
+        for (int i = 0, j = undoSections.length - 1; i < j; i++, j--) {
+            long t = undoSections[i];
+            undoSections[i] = undoSections[j];
+            undoSections[j] = t;
+        }
+        return new BlockEditJob(
+                "undo " + name,
+                source,
+                level,
+                area,
+                (x, y, z, current) -> undo.get(SectionPos.asLong(
+                                                  SectionPos.blockToSectionCoord(x),
+                                                  SectionPos.blockToSectionCoord(y),
+                                                  SectionPos.blockToSectionCoord(z)
+                                          ))
+                                          .states.get(x & 15, y & 15, z & 15),
+                undoSections,
+                undo
+        );
+    }
+
+    private boolean isDone() {
+        return next >= sections.length;
+    }
+
+    private int progress() {
+        return sections.length == 0 ? 100 : (int) (100L * next / sections.length);
+    }
+
+    private void processSection() {
+        final long section = sections[next++];
+        final int sx = SectionPos.x(section);
+        final int sy = SectionPos.y(section);
+        final int sz = SectionPos.z(section);
+
+        final LevelChunk chunk = level.getChunk(sx, sz);
+        final LevelChunkSection chunkSection = chunk.getSection(chunk.getSectionIndexFromSectionY(sy));
+        final SectionUndo before = recordUndo ? new SectionUndo(
+                chunkSection.getStates().copy(),
+                saveBlockEntities(chunk, section)
+        ) : null;
+
+        final int minX = Math.max(area.minX(), SectionPos.sectionToBlockCoord(sx));
+        final int maxX = Math.min(area.maxX(), SectionPos.sectionToBlockCoord(sx, 15));
+        final int minY = Math.max(area.minY(), SectionPos.sectionToBlockCoord(sy));
+        final int maxY = Math.min(area.maxY(), SectionPos.sectionToBlockCoord(sy, 15));
+        final int minZ = Math.max(area.minZ(), SectionPos.sectionToBlockCoord(sz));
+        final int maxZ = Math.min(area.maxZ(), SectionPos.sectionToBlockCoord(sz, 15));
+
+        final BlockEditBuffer buffer = new BlockEditBuffer(level, BlocksHelper.SET_SILENT, true);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    final BlockState current = chunkSection.getBlockState(x & 15, y & 15, z & 15);
+                    final BlockState state = editor.apply(x, y, z, current);
+                    if (state != null && state != current) {
+                        //like /fill, so containers do not drop their contents (they are kept for undo)
+                        if (current.hasBlockEntity()) Clearable.tryClear(level.getBlockEntity(pos.set(x, y, z)));
+                        buffer.set(x, y, z, state);
+                    }
+                }
+            }
+        }
+
+        final int changed = buffer.apply();
+        changedBlocks += changed;
+        if (changed > 0 && before != null) {
+            //only block entities whose block was replaced need to be restored
+            before.blockEntities.keySet().removeIf(
+                    p -> chunkSection.getBlockState(p.getX() & 15, p.getY() & 15, p.getZ() & 15)
+                            == before.states.get(p.getX() & 15, p.getY() & 15, p.getZ() & 15)
+            );
+            undo.put(section, before);
+        }
+        if (restore != null) {
+            restoreBlockEntities(restore.get(section));
+        }
+    }
+
+    private Map<BlockPos, CompoundTag> saveBlockEntities(LevelChunk chunk, long section) {
+        final Map<BlockPos, CompoundTag> result = new HashMap<>();
+        final int sy = SectionPos.y(section);
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            final BlockPos pos = blockEntity.getBlockPos();
+            if (SectionPos.blockToSectionCoord(pos.getY()) == sy && area.isInside(pos)) {
+                result.put(pos, blockEntity.saveWithFullMetadata());
+            }
+        }
+        return result;
+    }
+
+    private void restoreBlockEntities(@Nullable SectionUndo section) {
+        if (section == null) return;
+        section.blockEntities.forEach((pos, tag) -> {
+            final BlockEntity blockEntity = level.getBlockEntity(pos);
+            if (blockEntity == null) return;
+            blockEntity.load(tag);
+            blockEntity.setChanged();
+            final BlockState state = level.getBlockState(pos);
+            level.sendBlockUpdated(pos, state, state, BlocksHelper.SET_SILENT);
+        });
+    }
+
+    private void reportProgress() {
+        final int quarter = progress() / 25;
+        if (quarter > reportedQuarter && !isDone()) {
+            reportedQuarter = quarter;
+            source.sendSuccess(() -> Component.literal(name + ": " + progress() + "%"), false);
+        }
+    }
+
+    private void finish(String state) {
+        RUNNING.remove(this);
+        if (recordUndo) lastJob = this;
+        source.sendSuccess(
+                () -> Component.literal(name + ": " + state + ", changed " + changedBlocks + " blocks"),
+                false
+        );
+    }
+
+    /**
+     * Queues a job. It starts with the next server tick.
+     */
+    public static void start(BlockEditJob job) {
+        RUNNING.add(job);
+        job.source.sendSuccess(
+                () -> Component.literal("Started " + job.name + " (" + job.sections.length + " sections)"),
+                false
+        );
+    }
+
+    /**
+     * Runs the queued jobs until the tick budget is used up. Every job edits at least one section per tick.
+     */
+    static void tick(MinecraftServer server) {
+        if (RUNNING.isEmpty()) return;
+
+        final long budget = Configs.SERVER_CONFIG.commandJobTickBudget() * 1_000_000L;
+        final long start = System.nanoTime();
+        for (BlockEditJob job : List.copyOf(RUNNING)) {
+            do {
+                job.processSection();
+            } while (!job.isDone() && System.nanoTime() - start < budget);
+
+            if (job.isDone()) job.finish("done");
+            else job.reportProgress();
+        }
+    }
+
+    static List<BlockEditJob> running() {
+        return List.copyOf(RUNNING);
+    }
+
+    static String describe(BlockEditJob job) {
+        return job.name + ": " + job.progress() + "%, changed " + job.changedBlocks + " blocks";
+    }
+
+    /**
+     * Stops all running jobs. The changes they made so far can still be undone.
+     *
+     * @return The number of cancelled jobs
+     */
+    static int cancelAll() {
+        final List<BlockEditJob> jobs = running();
+        jobs.forEach(job -> job.finish("cancelled at " + job.progress() + "%"));
+        return jobs.size();
+    }
+
+    /**
+     * Starts a job that restores the blocks changed by the last finished or cancelled job.
+     *
+     * @return {@code false} if there is nothing to undo
+     */
+    static boolean undoLast(CommandSourceStack source) {
+        final BlockEditJob job = lastJob;
+        if (job == null || job.undo.isEmpty() || RUNNING.contains(job)) return false;
+        lastJob = null;
+        start(job.createUndo(source));
+        return true;
+    }
+
+    /**
+     * Drops all jobs and undo data, for example when the server stops.
+     */
+    static void clear() {
+        RUNNING.clear();
+        lastJob = null;
+    }
+}
@@ -15,22 +15,29 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.BlockPos.MutableBlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
+import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.phys.Vec3;
 
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class CommandRegistry {
     public static void register() {
         CommandRegistrationCallback.EVENT.register(CommandRegistry::register);
+        ServerTickEvents.END_SERVER_TICK.register(BlockEditJob::tick);
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> BlockEditJob.clear());
     }
 
     private static void register(
@@ -44,6 +51,7 @@ public class CommandRegistry {
         bnContext = PlaceCommand.register(bnContext, commandBuildContext);
         bnContext = PrintInfo.register(bnContext);
         bnContext = DumpDatapack.register(bnContext);
+        bnContext = ProfileCommand.register(bnContext);
 
         dispatcher.register(
                 bnContext
@@ -63,6 +71,14 @@ public class CommandRegistry {
                                       .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
                                       .executes(ctx -> slice(ctx, false))
                         )
+                        .then(Commands.literal("jobs")
+                                      .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                                      .then(Commands.literal("cancel")
+                                                    .executes(CommandRegistry::cancelJobs))
+                                      .then(Commands.literal("undo")
+                                                    .executes(CommandRegistry::undoJob))
+                                      .executes(CommandRegistry::listJobs)
+                        )
         );
     }
 
@@ -98,53 +114,49 @@ public class CommandRegistry {
             Blocks.LIGHT_BLUE_CONCRETE.defaultBlockState()
     };
 
+    private static BlockState biomeState(ServerLevel level, int x, int y, int z) {
+        Holder<Biome> b = level.getBiome(new BlockPos(x, y, z));
+        return biomeMap.computeIfAbsent(b, (bb) -> {
+            biomeMapIdx = (biomeMapIdx + 1) % states.length;
+            return states[biomeMapIdx];
+        });
+    }
+
+    private static boolean isOre(BlockState state) {
+        return state.is(CommonBlockTags.NETHER_ORES)
+                || state.is(CommonBlockTags.END_ORES)
+                || state.is(BlockTags.COAL_ORES)
+                || state.is(BlockTags.COPPER_ORES)
+                || state.is(BlockTags.DIAMOND_ORES)
+                || state.is(BlockTags.EMERALD_ORES)
+                || state.is(BlockTags.GOLD_ORES)
+                || state.is(BlockTags.IRON_ORES)
+                || state.is(BlockTags.LAPIS_ORES)
+                || state.is(BlockTags.REDSTONE_ORES)
+                || state.is(Blocks.NETHER_QUARTZ_ORE)
+                || state.is(Blocks.NETHER_GOLD_ORE)
+                || state.is(Blocks.ANCIENT_DEBRIS);
+    }
+
     private static int revealOre(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
         final CommandSourceStack source = ctx.getSource();
         final ServerLevel level = source.getLevel();
         final Vec3 pos = source.getPosition();
-
-        MutableBlockPos bp = new MutableBlockPos();
-        BlockState state;
-        BlockState fillState;
         final BlockState AIR = Blocks.AIR.defaultBlockState();
 
-        for (int y = 1; y < level.getHeight(); y++) {
-            bp.setY(y);
-            for (int x = -64; x < 64; x++) {
-                bp.setX((int) pos.x + x);
-                for (int z = -64; z < 64; z++) {
-                    bp.setZ((int) pos.z + z);
-                    if (y == 1) {
-                        Holder<Biome> b = level.getBiome(bp);
-                        fillState = biomeMap.computeIfAbsent(b, (bb) -> {
-                            biomeMapIdx = (biomeMapIdx + 1) % states.length;
-                            return states[biomeMapIdx];
-                        });
-                    } else {
-                        fillState = AIR;
-                    }
-
-                    state = level.getBlockState(bp);
-                    if (y == 1 || !state.is(Blocks.AIR)) {
-                        if (!(state.is(CommonBlockTags.NETHER_ORES)
-                                || state.is(CommonBlockTags.END_ORES)
-                                || state.is(BlockTags.COAL_ORES)
-                                || state.is(BlockTags.COPPER_ORES)
-                                || state.is(BlockTags.DIAMOND_ORES)
-                                || state.is(BlockTags.EMERALD_ORES)
-                                || state.is(BlockTags.GOLD_ORES)
-                                || state.is(BlockTags.IRON_ORES)
-                                || state.is(BlockTags.LAPIS_ORES)
-                                || state.is(BlockTags.REDSTONE_ORES)
-                                || state.is(Blocks.NETHER_QUARTZ_ORE)
-                                || state.is(Blocks.NETHER_GOLD_ORE)
-                                || state.is(Blocks.ANCIENT_DEBRIS))) {
-                            BlocksHelper.setWithoutUpdate(level, bp, fillState);
-                        }
-                    }
+        BlockEditJob.start(BlockEditJob.create(
+                "debug_ore",
+                source,
+                new BoundingBox(
+                        (int) pos.x - 64, 1, (int) pos.z - 64,
+                        (int) pos.x + 63, level.getHeight() - 1, (int) pos.z + 63
+                ),
+                (x, y, z, state) -> {
+                    if (y != 1 && state.is(Blocks.AIR)) return null;
+                    if (isOre(state)) return null;
+                    return y == 1 ? biomeState(level, x, y, z) : AIR;
                 }
-            }
-        }
+        ));
         return Command.SINGLE_SUCCESS;
     }
 
@@ -152,32 +164,44 @@ public class CommandRegistry {
         final CommandSourceStack source = ctx.getSource();
         final ServerLevel level = source.getLevel();
         final Vec3 pos = source.getPosition();
+        final BlockState AIR = Blocks.AIR.defaultBlockState();
 
-        BlockState AIR = Blocks.AIR.defaultBlockState();
-        MutableBlockPos bp = new MutableBlockPos();
-        BlockState state;
-        BlockState fillState;
-
-
-        for (int y = 1; y < level.getHeight(); y++) {
-            bp.setY(y);
-            for (int x = constX ? 0 : -64; x < 64; x++) {
-                bp.setX((int) pos.x + x);
-                for (int z = constX ? -64 : 0; z < 64; z++) {
-                    bp.setZ((int) pos.z + z);
-                    if (y == 1) {
-                        Holder<Biome> b = level.getBiome(bp);
-                        fillState = biomeMap.computeIfAbsent(b, (bb) -> {
-                            biomeMapIdx = (biomeMapIdx + 1) % states.length;
-                            return states[biomeMapIdx];
-                        });
-                    } else {
-                        fillState = AIR;
-                    }
-
-                    BlocksHelper.setWithoutUpdate(level, bp, fillState);
-                }
-            }
+        BlockEditJob.start(BlockEditJob.create(
+                constX ? "sliceZ" : "sliceX",
+                source,
+                new BoundingBox(
+                        (int) pos.x + (constX ? 0 : -64), 1, (int) pos.z + (constX ? -64 : 0),
+                        (int) pos.x + 63, level.getHeight() - 1, (int) pos.z + 63
+                ),
+                (x, y, z, state) -> y == 1 ? biomeState(level, x, y, z) : AIR
+        ));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int listJobs(CommandContext<CommandSourceStack> ctx) {
+        final List<BlockEditJob> jobs = BlockEditJob.running();
+        if (jobs.isEmpty()) {
+            ctx.getSource().sendSuccess(() -> Component.literal("No jobs are running"), false);
+            return 0;
+        }
+        for (BlockEditJob job : jobs) {
+            ctx.getSource().sendSuccess(() -> Component.literal(BlockEditJob.describe(job)), false);
+        }
+        return jobs.size();
+    }
+
+    private static int cancelJobs(CommandContext<CommandSourceStack> ctx) {
+        final int count = BlockEditJob.cancelAll();
+        if (count == 0) {
+            ctx.getSource().sendFailure(Component.literal("No jobs are running"));
+        }
+        return count;
+    }
+
+    private static int undoJob(CommandContext<CommandSourceStack> ctx) {
+        if (!BlockEditJob.undoLast(ctx.getSource())) {
+            ctx.getSource().sendFailure(Component.literal("There is nothing to undo"));
+            return 0;
         }
         return Command.SINGLE_SUCCESS;
     }
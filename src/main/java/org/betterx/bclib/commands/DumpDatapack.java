@@ -55,25 +55,36 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import java.awt.Taskbar.Feature;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 public class DumpDatapack {
     public static LiteralArgumentBuilder<CommandSourceStack> register(LiteralArgumentBuilder<CommandSourceStack> bnContext) {
         return bnContext
                 .then(Commands.literal("dump_datapack")
                               .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
-                              .executes(DumpDatapack::dumpDatapack)
+                              .then(Commands.literal("zip")
+                                            .executes(ctx -> dumpDatapack(ctx, true)))
+                              .executes(ctx -> dumpDatapack(ctx, false))
                 );
     }
 
@@ -86,15 +97,63 @@ public class DumpDatapack {
         }
     }
 
-    private static final Map<ResourceLocation, Dumper> DUMPERS = new HashMap<>();
+    /**
+     * Receives the encoded files of a dump. Implementations must accept calls from several threads.
+     */
+    private interface Output extends Closeable {
+        void write(String path, JsonElement json) throws IOException;
+    }
+
+    private record FolderOutput(File base, Gson gson) implements Output {
+        @Override
+        public void write(String path, JsonElement json) throws IOException {
+            final Path file = base.toPath().resolve(path);
+            Files.createDirectories(file.getParent());
+            try (JsonWriter writer = gson.newJsonWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                gson.toJson(json, writer);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private record ZipOutput(ZipOutputStream zip, Gson gson) implements Output {
+        @Override
+        public void write(String path, JsonElement json) throws IOException {
+            //the zip stream only accepts one entry at a time, encoding still runs in parallel
+            synchronized (zip) {
+                zip.putNextEntry(new ZipEntry(path));
+                JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+                gson.toJson(json, writer);
+                writer.flush();
+                zip.closeEntry();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.close();
+        }
+    }
 
-    static int dumpDatapack(CommandContext<CommandSourceStack> ctx) {
-        File base = new File(System.getProperty("user.dir"), "bclib_datapack_dump");
-        dumpDatapack(base, ctx.getSource().getLevel().registryAccess(), ctx);
+    private static final Map<ResourceLocation, Dumper> DUMPERS = new HashMap<>();
 
+    static int dumpDatapack(CommandContext<CommandSourceStack> ctx, boolean zip) {
+        File base = new File(System.getProperty("user.dir"), "bclib_datapack_dump" + (zip ? ".zip" : ""));
+        final long start = System.nanoTime();
+        try {
+            dumpDatapack(base, ctx.getSource().getLevel().registryAccess(), ctx, zip);
+        } catch (IOException e) {
+            BCLib.LOGGER.error("Unable to write datapack dump", e);
+            ctx.getSource().sendFailure(Component.literal("Unable to write " + base));
+            return 0;
+        }
+        final long millis = (System.nanoTime() - start) / 1_000_000;
 
         ctx.getSource().sendSuccess(
-                () -> Component.literal("Succesfully written to:\n    ").append(
+                () -> Component.literal("Succesfully written in " + millis + " ms to:\n    ").append(
                         Component.literal(base.toString()).setStyle(Style.EMPTY.withUnderlined(true))
                 ),
                 false
@@ -103,53 +162,76 @@ public class DumpDatapack {
     }
 
     public static void dumpDatapack(File base, RegistryAccess registryAccess, CommandContext<CommandSourceStack> ctx) {
+        try {
+            dumpDatapack(base, registryAccess, ctx, false);
+        } catch (IOException e) {
+            BCLib.LOGGER.error("Unable to write datapack dump", e);
+        }
+    }
+
+    /**
+     * Writes all registries, tags and dimensions as json files.
+     * <p>
+     * The entries of a registry are encoded in parallel and every file is streamed to its destination
+     * instead of being built as a string first. The time spent on each registry is logged.
+     *
+     * @param base           The output folder, or the zip file if {@code zip} is set
+     * @param registryAccess The registries to dump
+     * @param ctx            The command context
+     * @param zip            Write a single zip file instead of a folder
+     */
+    public static void dumpDatapack(
+            File base,
+            RegistryAccess registryAccess,
+            CommandContext<CommandSourceStack> ctx,
+            boolean zip
+    ) throws IOException {
         final RegistryOps<JsonElement> registryOps = RegistryOps.create(JsonOps.INSTANCE, registryAccess);
         GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder = gsonBuilder.setPrettyPrinting();
         Gson gson = gsonBuilder.create();
 
-        registryAccess.registries().forEach(r -> dump(base, r, registryOps, gson));
-
-        BCLib.LOGGER.info("- Serializing Dimensions ");
+        if (zip) base.getAbsoluteFile().getParentFile().mkdirs();
+        try (Output output = zip
+                ? new ZipOutput(new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(base))), gson)
+                : new FolderOutput(base, gson)) {
+            //dimensions are written from the running levels below, writing the stems here as well would
+            //produce duplicate zip entries
+            registryAccess.registries()
+                          .filter(r -> !r.key().equals(Registries.LEVEL_STEM))
+                          .forEach(r -> dump(output, r, registryOps));
 
-        for (ServerLevel serverLevel : ctx.getSource().getLevel().getServer().getAllLevels()) {
-            File f1 = new File(base, serverLevel.dimension().location().getNamespace());
-            f1 = new File(f1, "dimension");
-            f1 = new File(f1, serverLevel.dimension().location().getPath() + ".json");
-            f1.getParentFile().mkdirs();
+            BCLib.LOGGER.info("- Serializing Dimensions ");
 
-            try {
-                LevelStem stem = new LevelStem(
-                        serverLevel.dimensionTypeRegistration(),
-                        serverLevel.getChunkSource().getGenerator()
-                );
-                Codec codec = LevelStem.CODEC;
-                var o = codec
-                        .encodeStart(registryOps, stem)
-                        .result()
-                        .orElse(new JsonObject());
+            for (ServerLevel serverLevel : ctx.getSource().getLevel().getServer().getAllLevels()) {
+                final String path = serverLevel.dimension().location().getNamespace()
+                        + "/dimension/"
+                        + serverLevel.dimension().location().getPath() + ".json";
 
-                String content = gson.toJson(o);
                 try {
-                    Files.writeString(f1.toPath(), content, StandardCharsets.UTF_8);
-                } catch (IOException e) {
-                    BCLib.LOGGER.error("        ->> Unable to WRITE: " + e.getMessage());
+                    LevelStem stem = new LevelStem(
+                            serverLevel.dimensionTypeRegistration(),
+                            serverLevel.getChunkSource().getGenerator()
+                    );
+                    Codec codec = LevelStem.CODEC;
+                    var o = codec
+                            .encodeStart(registryOps, stem)
+                            .result()
+                            .orElse(new JsonObject());
+
+                    try {
+                        output.write(path, (JsonElement) o);
+                    } catch (IOException e) {
+                        BCLib.LOGGER.error("        ->> Unable to WRITE: " + e.getMessage());
+                    }
+                } catch (Exception e) {
+                    BCLib.LOGGER.error("      ->> Unable to encode: " + e.getMessage());
                 }
-            } catch (Exception e) {
-                BCLib.LOGGER.error("      ->> Unable to encode: " + e.getMessage());
             }
         }
-
     }
 
-
-    private static <T> void dump(
-            File base, RegistryAccess.RegistryEntry<T> registry,
-            RegistryOps<JsonElement> registryOps,
-            Gson gson
-    ) {
-        BCLib.LOGGER.info("- Serializing: " + registry.key().toString());
-        DUMPERS.clear();
+    private static void registerDumpers() {
         DUMPERS.put(Registries.BIOME.location(), new Dumper<>((Biome v) -> Biome.DIRECT_CODEC));
         DUMPERS.put(
                 Registries.CONFIGURED_FEATURE.location(),
@@ -206,41 +288,49 @@ public class DumpDatapack {
                 Registries.STRUCTURE_SET.location(),
                 new Dumper<>((StructureSet v) -> StructureSet.DIRECT_CODEC)
         );
+    }
 
+    private static <T> void dump(
+            Output output,
+            RegistryAccess.RegistryEntry<T> registry,
+            RegistryOps<JsonElement> registryOps
+    ) {
+        BCLib.LOGGER.info("- Serializing: " + registry.key().toString());
+        if (DUMPERS.isEmpty()) registerDumpers();
 
+        final long start = System.nanoTime();
         Dumper d = DUMPERS.getOrDefault(registry.key().location(), new Dumper(v -> registry.value().byNameCodec()));
         //Dumper d = DUMPERS.get(registry.key().location());
         if (d != null)
-            dump(base, registry, registryOps, gson, d.codecFunction, d.contentTransform);
+            dump(output, registry, registryOps, d.codecFunction, d.contentTransform);
         else
             BCLib.LOGGER.warning("    No Codec Found");
-
+        BCLib.LOGGER.info("     -> " + registry.key().location() + " took " + (System.nanoTime() - start) / 1_000_000 + " ms");
     }
 
     private static <T, S> void dump(
-            File base, RegistryAccess.RegistryEntry<T> registry,
+            Output output,
+            RegistryAccess.RegistryEntry<T> registry,
             RegistryOps<JsonElement> registryOps,
-            Gson gson,
             Function<Object, Codec<?>> codecFunction,
             Function<Holder<T>, Object> contentTransform
     ) {
         BCLib.LOGGER.info("   - Serializing Tags");
-        dumpTags(base, registry, registryOps, gson);
+        dumpTags(output, registry, registryOps);
 
         BCLib.LOGGER.info("   - Serializing Content");
-        int[] count = {0, 0};
+        final AtomicInteger written = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
         registry
                 .value()
-                .entrySet()
-                .stream()
-                .map(e -> e.getKey()).map(key -> registry.value().getHolder(key).get())
+                .holders()
+                .toList()
+                .parallelStream()
                 .forEach(holder -> {
-                    File f1 = new File(base, holder.unwrapKey().get().location().getNamespace());
-                    f1 = new File(f1, registry.key().location().getPath());
-                    f1.mkdirs();
-                    f1 = new File(f1, holder.unwrapKey().get().location().getPath() + ".json");
-                    f1.getParentFile().mkdirs();
-                    //BCLib.LOGGER.info("     - " + f1);
+                    final ResourceLocation location = holder.unwrapKey().get().location();
+                    final String path = location.getNamespace()
+                            + "/" + registry.key().location().getPath()
+                            + "/" + location.getPath() + ".json";
 
                     Object obj = contentTransform.apply(holder);
                     try {
@@ -250,20 +340,19 @@ public class DumpDatapack {
                                 .result()
                                 .orElse(new JsonObject());
 
-                        String content = gson.toJson(o);
                         try {
-                            Files.writeString(f1.toPath(), content, StandardCharsets.UTF_8);
-                            count[0]++;
+                            output.write(path, (JsonElement) o);
+                            written.incrementAndGet();
                         } catch (IOException e) {
-                            count[1]++;
+                            errors.incrementAndGet();
                             BCLib.LOGGER.error("        ->> Unable to WRITE: " + e.getMessage());
                         }
                     } catch (Exception e) {
-                        count[1]++;
+                        errors.incrementAndGet();
                         BCLib.LOGGER.error("      ->> Unable to encode: " + e.getMessage());
                     }
                 });
-        BCLib.LOGGER.info("     -> Wrote " + count[0] + " files (" + count[1] + " errors)");
+        BCLib.LOGGER.info("     -> Wrote " + written.get() + " files (" + errors.get() + " errors)");
     }
 
 
@@ -274,7 +363,7 @@ public class DumpDatapack {
             Gson gson
     ) {
         BCLib.LOGGER.info(registry.key().toString());
-        dumpTags(base, registry, registryOps, gson);
+        dumpTags(new FolderOutput(base, gson), registry, registryOps);
 
         registry
                 .value()
@@ -445,10 +534,9 @@ public class DumpDatapack {
     }
 
     private static <T> void dumpTags(
-            File base,
+            Output output,
             RegistryAccess.RegistryEntry<T> registry,
-            RegistryOps<JsonElement> registryOps,
-            Gson gson
+            RegistryOps<JsonElement> registryOps
     ) {
         // Tag Output
         registry.value()
@@ -456,12 +544,12 @@ public class DumpDatapack {
                 .map(tagKey -> registry.value().getTag(tagKey))
                 .filter(tag -> tag.isPresent())
                 .map(tag -> tag.get())
+                .toList()
+                .parallelStream()
                 .forEach(tag -> {
-                    File f1 = new File(base, tag.key().location().getNamespace());
-                    f1 = new File(f1, "tags");
-                    f1 = new File(f1, registry.key().location().getPath());
-                    f1 = new File(f1, tag.key().location().getPath() + ".json");
-                    f1.getParentFile().mkdirs();
+                    final String path = tag.key().location().getNamespace()
+                            + "/tags/" + registry.key().location().getPath()
+                            + "/" + tag.key().location().getPath() + ".json";
 
                     TagFile tf = new TagFile(
                             tag.stream()
@@ -475,9 +563,8 @@ public class DumpDatapack {
                             .encodeStart(registryOps, tf)
                             .result()
                             .orElse(new JsonObject());
-                    String content = gson.toJson(o);
                     try {
-                        Files.writeString(f1.toPath(), content, StandardCharsets.UTF_8);
+                        output.write(path, o);
                     } catch (IOException e) {
                         BCLib.LOGGER.error("      ->> Unable to WRITE: " + e.getMessage());
                     }
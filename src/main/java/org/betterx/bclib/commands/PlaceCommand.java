@@ -7,6 +7,7 @@ import org.betterx.bclib.commands.arguments.ConnectorArgument;
 import org.betterx.bclib.commands.arguments.Float3ArgumentType;
 import org.betterx.bclib.commands.arguments.PlacementDirections;
 import org.betterx.bclib.commands.arguments.TemplatePlacementArgument;
+import org.betterx.bclib.util.BlockEditBuffer;
 import org.betterx.bclib.util.BlocksHelper;
 
 import com.mojang.brigadier.Command;
@@ -453,11 +454,13 @@ public class PlaceCommand {
     }
 
     private static void replaceAir(Level level, BoundingBox bb) {
+        final BlockEditBuffer buffer = new BlockEditBuffer(level, BlocksHelper.SET_OBSERV);
         BlocksHelper.forAllInBounds(bb, (bp) -> {
             if (level.getBlockState(bp).is(Blocks.AIR)) {
-                level.setBlock(bp, Blocks.STRUCTURE_VOID.defaultBlockState(), BlocksHelper.SET_OBSERV);
+                buffer.set(bp, Blocks.STRUCTURE_VOID.defaultBlockState());
             }
         });
+        buffer.apply();
     }
 
     private static void removeLootTableSeed(Level level, BoundingBox bb) {
@@ -469,7 +472,9 @@ public class PlaceCommand {
     }
 
     static void fill(Level level, BoundingBox bb, BlockState blockState) {
-        BlocksHelper.forAllInBounds(bb, (bp) -> level.setBlock(bp, blockState, BlocksHelper.SET_OBSERV));
+        final BlockEditBuffer buffer = new BlockEditBuffer(level, BlocksHelper.SET_OBSERV);
+        BlocksHelper.forAllInBounds(bb, (bp) -> buffer.set(bp, blockState));
+        buffer.apply();
     }
 
     static void fillStructureVoid(Level level, BoundingBox bb) {
@@ -478,7 +483,9 @@ public class PlaceCommand {
 
     //Draws a border around the bounding box
     private static void outline(Level level, BoundingBox bb, BlockState outlineState) {
-        BlocksHelper.forOutlineInBounds(bb, (bp) -> level.setBlock(bp, outlineState, BlocksHelper.SET_OBSERV));
+        final BlockEditBuffer buffer = new BlockEditBuffer(level, BlocksHelper.SET_OBSERV);
+        BlocksHelper.forOutlineInBounds(bb, (bp) -> buffer.set(bp, outlineState));
+        buffer.apply();
     }
 
     private static BoundingBox adapt(BoundingBox bb, boolean border, boolean structureBlock) {
@@ -0,0 +1,150 @@
+package org.betterx.bclib.commands;
+
+import org.betterx.bclib.BCLib;
+import org.betterx.bclib.api.v2.spawning.CompiledSpawnRules;
+import org.betterx.bclib.api.v3.levelgen.features.FeatureProfiler;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.Style;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+public class ProfileCommand {
+    private static final int MAX_LINES = 20;
+
+    public static LiteralArgumentBuilder<CommandSourceStack> register(LiteralArgumentBuilder<CommandSourceStack> bnContext) {
+        return bnContext
+                .then(Commands.literal("profile")
+                              .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                              .then(Commands.literal("spawn")
+                                            .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                                            .then(Commands.literal("start")
+                                                          .executes(ctx -> setSpawnProfiling(ctx, true)))
+                                            .then(Commands.literal("stop")
+                                                          .executes(ctx -> setSpawnProfiling(ctx, false)))
+                                            .executes(ProfileCommand::printSpawnProfile)
+                              )
+                              .then(Commands.literal("worldgen")
+                                            .requires(source -> source.hasPermission(Commands.LEVEL_OWNERS))
+                                            .then(Commands.literal("start")
+                                                          .executes(ctx -> setWorldgenProfiling(ctx, true)))
+                                            .then(Commands.literal("stop")
+                                                          .executes(ctx -> setWorldgenProfiling(ctx, false)))
+                                            .then(Commands.literal("dump")
+                                                          .executes(ProfileCommand::dumpWorldgenProfile))
+                                            .executes(ProfileCommand::printWorldgenProfile)
+                              )
+                );
+    }
+
+    private static int setSpawnProfiling(CommandContext<CommandSourceStack> ctx, boolean enabled) {
+        CompiledSpawnRules.setProfiling(enabled);
+        final String message = enabled
+                ? "Started spawn rule profiling"
+                : "Stopped spawn rule profiling";
+        ctx.getSource().sendSuccess(() -> Component.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int printSpawnProfile(CommandContext<CommandSourceStack> ctx) {
+        List<CompiledSpawnRules.RuleStats> stats = CompiledSpawnRules.getStats();
+        if (stats.isEmpty()) {
+            final String message = CompiledSpawnRules.isProfiling()
+                    ? "No spawn rules were checked yet"
+                    : "Spawn rule profiling is not running. Use '/bclib profile spawn start'";
+            ctx.getSource().sendFailure(Component.literal(message));
+            return 0;
+        }
+
+        MutableComponent result = Component.literal("Spawn Rules (by total time):")
+                                           .setStyle(Style.EMPTY.withBold(true).withColor(ChatFormatting.BLUE));
+        stats.stream()
+             .sorted(Comparator.comparingLong(CompiledSpawnRules.RuleStats::nanos).reversed())
+             .limit(MAX_LINES)
+             .forEach(s -> result.append(Component
+                     .literal(String.format(
+                             "\n - %s / %s: %.2f ms, %d checks, %.1f%% rejected",
+                             BuiltInRegistries.ENTITY_TYPE.getKey(s.entityType()),
+                             s.rule(),
+                             s.nanos() / 1_000_000.0,
+                             s.checks(),
+                             100.0 * s.rejections() / s.checks()
+                     ))
+                     .setStyle(Style.EMPTY.withBold(false).withColor(ChatFormatting.WHITE))));
+
+        ctx.getSource().sendSuccess(() -> result, false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int setWorldgenProfiling(CommandContext<CommandSourceStack> ctx, boolean enabled) {
+        FeatureProfiler.setProfiling(enabled);
+        final String message = enabled
+                ? "Started worldgen feature profiling (all placed features, including vanilla and other mods)"
+                : "Stopped worldgen feature profiling";
+        ctx.getSource().sendSuccess(() -> Component.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static boolean checkWorldgenStats(CommandContext<CommandSourceStack> ctx, List<?> stats) {
+        if (!stats.isEmpty()) return true;
+        final String message = FeatureProfiler.isProfiling()
+                ? "No features were generated yet"
+                : "Worldgen profiling is not running. Use '/bclib profile worldgen start'";
+        ctx.getSource().sendFailure(Component.literal(message));
+        return false;
+    }
+
+    private static int printWorldgenProfile(CommandContext<CommandSourceStack> ctx) {
+        List<FeatureProfiler.FeatureStats> stats = FeatureProfiler.getStats();
+        if (!checkWorldgenStats(ctx, stats)) return 0;
+
+        MutableComponent result = Component.literal("Features (by total time):")
+                                           .setStyle(Style.EMPTY.withBold(true).withColor(ChatFormatting.BLUE));
+        stats.stream()
+             .limit(MAX_LINES)
+             .forEach(s -> result.append(Component
+                     .literal(String.format(
+                             "\n - %s (%s): %.2f ms (%.2f ms placement), %d runs, %d blocks, %.1f%% rejected",
+                             s.id(),
+                             s.step(),
+                             s.nanos() / 1_000_000.0,
+                             s.placementNanos() / 1_000_000.0,
+                             s.invocations(),
+                             s.blocks(),
+                             100.0 * s.rejectionRate()
+                     ))
+                     .setStyle(Style.EMPTY.withBold(false).withColor(ChatFormatting.WHITE))));
+
+        ctx.getSource().sendSuccess(() -> result, false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int dumpWorldgenProfile(CommandContext<CommandSourceStack> ctx) {
+        if (!checkWorldgenStats(ctx, FeatureProfiler.getStats())) return 0;
+
+        File base = new File(System.getProperty("user.dir"), "bclib_profile");
+        try {
+            final int count = FeatureProfiler.dump(base);
+            ctx.getSource().sendSuccess(
+                    () -> Component.literal("Wrote " + count + " features to " + base.getAbsolutePath()),
+                    false
+            );
+        } catch (IOException e) {
+            BCLib.LOGGER.error("Failed to write worldgen profile", e);
+            ctx.getSource().sendFailure(Component.literal("Failed to write worldgen profile"));
+            return 0;
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+}
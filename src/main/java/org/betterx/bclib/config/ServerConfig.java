@@ -60,6 +60,12 @@ public class ServerConfig extends NamedPathConfig {
             AutoSync.SYNC_CATEGORY
     );
 
+    public static final ConfigToken<Integer> COMMAND_JOB_TICK_BUDGET = ConfigToken.Int(
+            10,
+            "jobTickBudgetMs",
+            "commands"
+    );
+
 
     public ServerConfig() {
         super(BCLib.MOD_ID, "server", false);
@@ -93,4 +99,8 @@ public class ServerConfig extends NamedPathConfig {
         return get(FORCE_BETTERX_PRESET);
     }
 
+    public int commandJobTickBudget() {
+        return Math.max(1, get(COMMAND_JOB_TICK_BUDGET));
+    }
+
 }
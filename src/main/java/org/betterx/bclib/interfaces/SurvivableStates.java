@@ -0,0 +1,68 @@
+package org.betterx.bclib.interfaces;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Caches the ground a {@link SurvivesOnSpecialGround} block can survive on as a bitset indexed by
+ * block state ID.
+ * <p>
+ * The set is built the first time a block is checked, so every later check is a single lookup. All sets are
+ * dropped when tags are reloaded. States that were registered after a set was built fall back to the
+ * original check.
+ */
+@ApiStatus.Internal
+public final class SurvivableStates {
+    private static final Map<SurvivesOnSpecialGround, States> CACHE = new ConcurrentHashMap<>();
+
+    private record States(BitSet bits, int size) {
+    }
+
+    private SurvivableStates() {
+    }
+
+    /**
+     * Checks whether the owner can survive on the state.
+     *
+     * @param owner  The block that is placed
+     * @param state  The state of the ground
+     * @param source The original check, used to build the set
+     * @return {@code true} if the owner can survive on the state
+     */
+    public static boolean test(SurvivesOnSpecialGround owner, BlockState state, Predicate<BlockState> source) {
+        final int id = Block.getId(state);
+        final States states = CACHE.computeIfAbsent(owner, o -> build(source));
+        if (id < 0 || id >= states.size) return source.test(state);
+        return states.bits.get(id);
+    }
+
+    private static States build(Predicate<BlockState> source) {
+        final int size = Block.BLOCK_STATE_REGISTRY.size();
+        final BitSet bits = new BitSet(size);
+        for (int id = 0; id < size; id++) {
+            final BlockState state = Block.BLOCK_STATE_REGISTRY.byId(id);
+            if (state != null && source.test(state)) bits.set(id);
+        }
+        return new States(bits, size);
+    }
+
+    /**
+     * Drops all sets. They are rebuilt on the next check.
+     */
+    public static void invalidate() {
+        CACHE.clear();
+    }
+
+    public static void register() {
+        //sets of tag based blocks become stale whenever new tags are bound
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> invalidate());
+    }
+}
@@ -28,6 +28,6 @@ public interface SurvivesOnBlocks extends SurvivesOnSpecialGround {
 
     @Override
     default boolean isSurvivable(BlockState state) {
-        return getSurvivableBlocks().contains(state.getBlock());
+        return SurvivableStates.test(this, state, s -> getSurvivableBlocks().contains(s.getBlock()));
     }
 }
@@ -34,6 +34,6 @@ public interface SurvivesOnTags extends SurvivesOnSpecialGround {
 
     @Override
     default boolean isSurvivable(BlockState state) {
-        return getSurvivableTags().stream().anyMatch(tag -> state.is(tag));
+        return SurvivableStates.test(this, state, s -> getSurvivableTags().stream().anyMatch(s::is));
     }
 }
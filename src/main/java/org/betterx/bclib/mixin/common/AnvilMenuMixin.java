@@ -4,6 +4,7 @@ import org.betterx.bclib.blocks.BaseAnvilBlock;
 import org.betterx.bclib.blocks.LeveledAnvilBlock;
 import org.betterx.bclib.interfaces.AnvilScreenHandlerExtended;
 import org.betterx.bclib.recipes.AnvilRecipe;
+import org.betterx.bclib.recipes.BCLRecipeManager;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.BlockTags;
@@ -11,7 +12,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.*;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LevelEvent;
@@ -124,8 +124,7 @@ public abstract class AnvilMenuMixin extends ItemCombinerMenu implements AnvilSc
 
     @Inject(method = "createResult", at = @At("HEAD"), cancellable = true)
     public void bcl_updateOutput(CallbackInfo info) {
-        RecipeManager recipeManager = this.player.level().getRecipeManager();
-        be_recipes = recipeManager.getRecipesFor(AnvilRecipe.TYPE, inputSlots, player.level());
+        be_recipes = BCLRecipeManager.getRecipesFor(AnvilRecipe.TYPE, inputSlots, player.level());
         if (be_recipes.size() > 0) {
             int anvilLevel = this.anvilLevel.get();
             be_recipes = be_recipes.stream()
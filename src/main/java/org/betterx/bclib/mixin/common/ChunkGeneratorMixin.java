@@ -1,5 +1,6 @@
 package org.betterx.bclib.mixin.common;
 
+import org.betterx.bclib.api.v3.levelgen.features.FeatureProfiler;
 import org.betterx.bclib.interfaces.ChunkGeneratorAccessor;
 
 import net.minecraft.core.Registry;
@@ -25,6 +26,12 @@ public class ChunkGeneratorMixin implements ChunkGeneratorAccessor {
         return Long.rotateRight(seed, bclib_featureIteratorSeed++);
     }
 
+    @ModifyArg(method = "applyBiomeDecoration", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/levelgen/WorldgenRandom;setFeatureSeed(JII)V"), index = 2)
+    private int bclib_trackDecorationStep(int step) {
+        FeatureProfiler.onStep(step);
+        return step;
+    }
+
     @Inject(method = "applyBiomeDecoration", at = @At("HEAD"))
     private void bclib_obBiomeGenerate(
             WorldGenLevel worldGenLevel,
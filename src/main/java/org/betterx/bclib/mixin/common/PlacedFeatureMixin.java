@@ -0,0 +1,39 @@
+package org.betterx.bclib.mixin.common;
+
+import org.betterx.bclib.api.v3.levelgen.features.FeatureProfiler;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(PlacedFeature.class)
+public class PlacedFeatureMixin {
+    @Inject(method = "placeWithBiomeCheck", at = @At("HEAD"))
+    private void bclib_beforePlace(
+            WorldGenLevel level,
+            ChunkGenerator generator,
+            RandomSource random,
+            BlockPos pos,
+            CallbackInfoReturnable<Boolean> info
+    ) {
+        FeatureProfiler.beginPlacement();
+    }
+
+    @Inject(method = "placeWithBiomeCheck", at = @At("RETURN"))
+    private void bclib_afterPlace(
+            WorldGenLevel level,
+            ChunkGenerator generator,
+            RandomSource random,
+            BlockPos pos,
+            CallbackInfoReturnable<Boolean> info
+    ) {
+        FeatureProfiler.endPlacement((PlacedFeature) (Object) this, level);
+    }
+}
@@ -5,6 +5,7 @@ import org.betterx.bclib.recipes.BCLRecipeManager;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeManager;
 
 import com.google.gson.JsonElement;
@@ -25,6 +26,12 @@ public abstract class RecipeManagerMixin {
             CallbackInfo info
     ) {
         BCLRecipeManager.removeDisabledRecipes(resourceManager, map);
+        BCLRecipeManager.invalidateIndices();
+    }
+
+    @Inject(method = "replaceRecipes", at = @At("TAIL"))
+    public void bcl_interceptReplace(Iterable<Recipe<?>> recipes, CallbackInfo info) {
+        BCLRecipeManager.invalidateIndices();
     }
 
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package org.betterx.bclib.mixin.common;
 
+import org.betterx.bclib.api.v3.levelgen.features.FeatureProfiler;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
 import org.spongepowered.asm.mixin.Final;
@@ -9,6 +12,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(WorldGenRegion.class)
@@ -24,4 +28,11 @@ public class WorldGenRegionMixin {
         WorldGenRegion region = (WorldGenRegion) (Object) this;
         info.setReturnValue(Math.abs(x - center.getPos().x) < 2 && Math.abs(z - center.getPos().z) < 2);
     }
+
+    //a ModifyArg does not allocate a callback info for every block write while profiling is off
+    @ModifyArg(method = "setBlock", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/chunk/ChunkAccess;setBlockState(Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;"), index = 1)
+    private BlockState bclib_countPlacedBlock(BlockState state) {
+        FeatureProfiler.onBlockPlaced();
+        return state;
+    }
 }
@@ -28,6 +28,9 @@ import net.fabricmc.api.Environment;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
+import java.util.List;
+import java.util.Optional;
+
 public class AlloyingRecipe implements Recipe<Container>, UnknownReceipBookCategory {
     public final static String GROUP = "alloying";
     public final static RecipeType<AlloyingRecipe> TYPE = BCLRecipeManager.registerType(BCLib.MOD_ID, GROUP);
@@ -251,7 +254,24 @@ public class AlloyingRecipe implements Recipe<Container>, UnknownReceipBookCateg
         }
     }
 
+    /**
+     * Finds the recipe for the two input slots of an {@link AlloyingRecipeWorkstation}. Only recipes that accept
+     * the item in the first slot are tested.
+     *
+     * @param inv   The container, with the inputs in slot 0 and 1
+     * @param level The level of the workstation
+     * @return The first matching recipe
+     */
+    public static Optional<AlloyingRecipe> getRecipeFor(Container inv, Level level) {
+        return BCLRecipeManager.getRecipeFor(TYPE, inv, level);
+    }
+
     public static void register() {
         //we call this to make sure that TYPE is initialized
+        BCLRecipeManager.registerItemIndex(
+                TYPE,
+                recipe -> List.of(recipe.primaryInput, recipe.secondaryInput),
+                (Container c) -> c.getItem(0).getItem()
+        );
     }
 }
@@ -35,6 +35,7 @@ import net.fabricmc.api.Environment;
 
 import com.google.gson.JsonObject;
 
+import java.util.List;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 
@@ -51,6 +52,11 @@ public class AnvilRecipe implements Recipe<Container>, UnknownReceipBookCategory
 
     public static void register() {
         //we call this to make sure that TYPE is initialized
+        BCLRecipeManager.registerItemIndex(
+                TYPE,
+                recipe -> List.of(recipe.input),
+                (Container c) -> c.getItem(getIngredientSlot(c)).getItem()
+        );
     }
 
     private final ResourceLocation id;
@@ -9,18 +9,32 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.ItemLike;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -82,4 +96,117 @@ public class BCLRecipeManager {
             map.remove(id);
         }
     }
-}
\ No newline at end of file
+
+    private record IndexedType<C extends Container, T extends Recipe<C>>(
+            Function<T, List<Ingredient>> keys,
+            Function<C, Item> keyItem
+    ) {
+    }
+
+    private static final Map<RecipeType<?>, IndexedType<?, ?>> INDEXED_TYPES = Maps.newConcurrentMap();
+    private static final Map<RecipeManager, Map<RecipeType<?>, RecipeItemIndex<?, ?>>> INDICES = Collections.synchronizedMap(
+            new WeakHashMap<>());
+
+    /**
+     * Enables the item index for a recipe type. Lookups through {@link #getRecipesFor(RecipeType, Container, Level)}
+     * and {@link #getRecipeFor(RecipeType, Container, Level)} will then only test the recipes that have an
+     * ingredient accepting the key item of the container.
+     *
+     * @param type    The recipe type
+     * @param keys    The ingredients of a recipe that are indexed. A matching recipe has to accept the key item in
+     *                at least one of them.
+     * @param keyItem Returns the item of the container that is looked up in the index
+     */
+    public static <C extends Container, T extends Recipe<C>> void registerItemIndex(
+            RecipeType<T> type,
+            Function<T, List<Ingredient>> keys,
+            Function<C, Item> keyItem
+    ) {
+        INDEXED_TYPES.put(type, new IndexedType<>(keys, keyItem));
+    }
+
+    /**
+     * Same as {@link RecipeManager#getRecipesFor(RecipeType, Container, Level)}, but uses the item index of the
+     * type if one was registered.
+     */
+    public static <C extends Container, T extends Recipe<C>> List<T> getRecipesFor(
+            RecipeType<T> type,
+            C container,
+            Level level
+    ) {
+        final RecipeManager manager = level.getRecipeManager();
+        final List<T> candidates = getCandidates(manager, type, container, level);
+        if (candidates == null) return manager.getRecipesFor(type, container, level);
+
+        List<T> result = null;
+        for (T recipe : candidates) {
+            if (recipe.matches(container, level)) {
+                if (result == null) result = Lists.newArrayList();
+                result.add(recipe);
+            }
+        }
+        return result == null ? List.of() : result;
+    }
+
+    /**
+     * Same as {@link RecipeManager#getRecipeFor(RecipeType, Container, Level)}, but uses the item index of the
+     * type if one was registered.
+     */
+    public static <C extends Container, T extends Recipe<C>> Optional<T> getRecipeFor(
+            RecipeType<T> type,
+            C container,
+            Level level
+    ) {
+        final RecipeManager manager = level.getRecipeManager();
+        final List<T> candidates = getCandidates(manager, type, container, level);
+        if (candidates == null) return manager.getRecipeFor(type, container, level);
+
+        for (T recipe : candidates) {
+            if (recipe.matches(container, level)) return Optional.of(recipe);
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C extends Container, T extends Recipe<C>> List<T> getCandidates(
+            RecipeManager manager,
+            RecipeType<T> type,
+            C container,
+            Level level
+    ) {
+        final IndexedType<C, T> indexed = (IndexedType<C, T>) INDEXED_TYPES.get(type);
+        if (indexed == null) return null;
+
+        final Map<RecipeType<?>, RecipeItemIndex<?, ?>> indices;
+        synchronized (INDICES) {
+            indices = INDICES.computeIfAbsent(manager, m -> Maps.newConcurrentMap());
+        }
+        final RecipeItemIndex<C, T> index = (RecipeItemIndex<C, T>) indices.computeIfAbsent(
+                type,
+                t -> RecipeItemIndex.build(
+                        //same order as RecipeManager#getRecipesFor
+                        manager.getAllRecipesFor(type)
+                               .stream()
+                               .sorted(Comparator.comparing(recipe -> recipe.getResultItem(level.registryAccess())
+                                                                            .getDescriptionId()))
+                               .toList(),
+                        indexed.keys
+                )
+        );
+        return index.get(indexed.keyItem.apply(container));
+    }
+
+    /**
+     * Drops all item indices. They are rebuilt on the next lookup.
+     */
+    @ApiStatus.Internal
+    public static void invalidateIndices() {
+        INDICES.clear();
+    }
+
+    @ApiStatus.Internal
+    public static void register() {
+        //indices expand tags, so they become stale whenever new tags are bound
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> invalidateIndices());
+    }
+}
@@ -0,0 +1,80 @@
+package org.betterx.bclib.recipes;
+
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps every item to the recipes of one type that have an {@link Ingredient} accepting it.
+ * <p>
+ * Tags are expanded through {@link Ingredient#getItems()}, so the index must only be built once the tags
+ * of the current datapacks are bound. Recipes with an empty ingredient accept any item and are part of
+ * every candidate list. Candidate lists keep the order of the recipes the index was built from.
+ */
+class RecipeItemIndex<C extends Container, T extends Recipe<C>> {
+    private final Map<Item, List<T>> byItem;
+    private final List<T> wildcards;
+
+    private RecipeItemIndex(Map<Item, List<T>> byItem, List<T> wildcards) {
+        this.byItem = byItem;
+        this.wildcards = wildcards;
+    }
+
+    static <C extends Container, T extends Recipe<C>> RecipeItemIndex<C, T> build(
+            Collection<T> recipes,
+            Function<T, List<Ingredient>> keys
+    ) {
+        final Map<Item, List<T>> byItem = Maps.newHashMap();
+        final List<T> wildcards = Lists.newArrayList();
+        final Map<T, Integer> order = new IdentityHashMap<>();
+
+        for (T recipe : recipes) {
+            order.put(recipe, order.size());
+            final List<Ingredient> ingredients = keys.apply(recipe);
+            if (ingredients.stream().anyMatch(Ingredient::isEmpty)) {
+                wildcards.add(recipe);
+                continue;
+            }
+
+            for (Ingredient ingredient : ingredients) {
+                for (ItemStack stack : ingredient.getItems()) {
+                    final List<T> candidates = byItem.computeIfAbsent(stack.getItem(), item -> Lists.newArrayList());
+                    //recipes are added in order, so a duplicate can only be the last entry
+                    if (candidates.isEmpty() || candidates.get(candidates.size() - 1) != recipe) {
+                        candidates.add(recipe);
+                    }
+                }
+            }
+        }
+
+        final Comparator<T> byOrder = Comparator.comparingInt(order::get);
+        byItem.replaceAll((item, candidates) -> {
+            if (!wildcards.isEmpty()) {
+                candidates.addAll(wildcards);
+                candidates.sort(byOrder);
+            }
+            return List.copyOf(candidates);
+        });
+        return new RecipeItemIndex<>(byItem, List.copyOf(wildcards));
+    }
+
+    /**
+     * Returns all recipes that may accept the given item. Candidates still have to be checked with
+     * {@link Recipe#matches}.
+     */
+    List<T> get(Item item) {
+        return byItem.getOrDefault(item, wildcards);
+    }
+}
@@ -0,0 +1,232 @@
+package org.betterx.bclib.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.BlockPos.MutableBlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.lighting.LightEngine;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * Collects block changes and writes them section by section.
+ * <p>
+ * Changes are kept until {@link #apply()} is called. They are then sorted by chunk and section and written in
+ * that order through {@link LevelAccessor#setBlock}.
+ * <p>
+ * Buffers that are created with {@code writeSections} and target a {@link ServerLevel} lock each section once
+ * and write its states straight into the palette instead. Heightmaps are updated per changed block, and POI
+ * updates are only checked in sections where an old or new state can be a POI. Lighting is queued only for
+ * blocks whose light properties changed. Unlike {@link LevelAccessor#setBlock}, no neighbour updates are sent
+ * and {@code onPlace}/{@code onRemove} are not called, so this is only meant for bulk edits like the debug
+ * commands. States with block entities, and all changes when the flags request neighbour updates
+ * ({@link BlocksHelper#FLAG_UPDATE_BLOCK}), are still written through {@link LevelAccessor#setBlock}.
+ * <p>
+ * Use {@link #getBlockState(BlockPos)} to read through the buffer before it is applied.
+ */
+public class BlockEditBuffer {
+    //the heightmaps LevelChunk#setBlockState keeps up to date
+    private static final Heightmap.Types[] HEIGHTMAPS = {
+            Heightmap.Types.MOTION_BLOCKING,
+            Heightmap.Types.MOTION_BLOCKING_NO_LEAVES,
+            Heightmap.Types.OCEAN_FLOOR,
+            Heightmap.Types.WORLD_SURFACE
+    };
+
+    private final LevelAccessor level;
+    private final int flags;
+    private final boolean writeSections;
+    private final Long2ObjectOpenHashMap<BlockState> pending = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * @param level The level that receives the changes
+     */
+    public BlockEditBuffer(LevelAccessor level) {
+        this(level, BlocksHelper.SET_SILENT);
+    }
+
+    /**
+     * @param level The level that receives the changes
+     * @param flags The flags used for changes that are written through {@link LevelAccessor#setBlock}. If they
+     *              contain {@link BlocksHelper#FLAG_UPDATE_BLOCK}, all changes are written that way
+     */
+    public BlockEditBuffer(LevelAccessor level, int flags) {
+        this(level, flags, false);
+    }
+
+    /**
+     * @param level         The level that receives the changes
+     * @param flags         The flags used for changes that are written through {@link LevelAccessor#setBlock}
+     * @param writeSections If {@code true}, changes in a {@link ServerLevel} are written straight into the
+     *                      chunk sections, without {@code onPlace}/{@code onRemove} or neighbour updates
+     */
+    public BlockEditBuffer(LevelAccessor level, int flags, boolean writeSections) {
+        this.level = level;
+        this.flags = flags;
+        this.writeSections = writeSections;
+    }
+
+    public void set(BlockPos pos, BlockState state) {
+        pending.put(pos.asLong(), state);
+    }
+
+    public void set(int x, int y, int z, BlockState state) {
+        pending.put(BlockPos.asLong(x, y, z), state);
+    }
+
+    /**
+     * @return The pending state at the position, or the state in the level if the position was not changed
+     */
+    public BlockState getBlockState(BlockPos pos) {
+        final BlockState state = pending.get(pos.asLong());
+        return state == null ? level.getBlockState(pos) : state;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Writes all pending changes and clears the buffer.
+     *
+     * @return The number of blocks that were actually changed
+     */
+    public int apply() {
+        if (pending.isEmpty()) return 0;
+
+        final long[] positions = pending.keySet().toLongArray();
+        LongArrays.quickSort(positions, (a, b) -> {
+            final int ax = SectionPos.blockToSectionCoord(BlockPos.getX(a));
+            final int bx = SectionPos.blockToSectionCoord(BlockPos.getX(b));
+            if (ax != bx) return Integer.compare(ax, bx);
+            final int az = SectionPos.blockToSectionCoord(BlockPos.getZ(a));
+            final int bz = SectionPos.blockToSectionCoord(BlockPos.getZ(b));
+            if (az != bz) return Integer.compare(az, bz);
+            return Integer.compare(BlockPos.getY(a), BlockPos.getY(b));
+        });
+
+        int changed = 0;
+        if (writeSections && level instanceof ServerLevel serverLevel && (flags & BlocksHelper.FLAG_UPDATE_BLOCK) == 0) {
+            int start = 0;
+            while (start < positions.length) {
+                final int chunkX = SectionPos.blockToSectionCoord(BlockPos.getX(positions[start]));
+                final int chunkZ = SectionPos.blockToSectionCoord(BlockPos.getZ(positions[start]));
+                int end = start + 1;
+                while (end < positions.length
+                        && SectionPos.blockToSectionCoord(BlockPos.getX(positions[end])) == chunkX
+                        && SectionPos.blockToSectionCoord(BlockPos.getZ(positions[end])) == chunkZ) {
+                    end++;
+                }
+                changed += applyChunk(serverLevel, serverLevel.getChunk(chunkX, chunkZ), positions, start, end);
+                start = end;
+            }
+        } else {
+            final MutableBlockPos pos = new MutableBlockPos();
+            for (long p : positions) {
+                pos.set(p);
+                final BlockState state = pending.get(p);
+                if (level.getBlockState(pos) != state && level.setBlock(pos, state, flags)) changed++;
+            }
+        }
+
+        pending.clear();
+        return changed;
+    }
+
+    private int applyChunk(ServerLevel level, LevelChunk chunk, long[] positions, int start, int end) {
+        final ServerChunkCache chunkSource = level.getChunkSource();
+        final LevelLightEngine lightEngine = chunkSource.getLightEngine();
+        final MutableBlockPos pos = new MutableBlockPos();
+        final LongArrayList fallback = new LongArrayList();
+        int changed = 0;
+
+        int sectionStart = start;
+        while (sectionStart < end) {
+            final int sectionY = SectionPos.blockToSectionCoord(BlockPos.getY(positions[sectionStart]));
+            int sectionEnd = sectionStart + 1;
+            while (sectionEnd < end && SectionPos.blockToSectionCoord(BlockPos.getY(positions[sectionEnd])) == sectionY) {
+                sectionEnd++;
+            }
+
+            final int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                sectionStart = sectionEnd;
+                continue;
+            }
+
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            final boolean wasEmpty = section.hasOnlyAir();
+            boolean checkPoi = section.maybeHas(PoiTypes::hasPoi);
+            final long[] written = new long[sectionEnd - sectionStart];
+            final BlockState[] oldStates = new BlockState[written.length];
+            int count = 0;
+
+            section.acquire();
+            try {
+                for (int i = sectionStart; i < sectionEnd; i++) {
+                    final long p = positions[i];
+                    final int x = BlockPos.getX(p);
+                    final int y = BlockPos.getY(p);
+                    final int z = BlockPos.getZ(p);
+                    final BlockState state = pending.get(p);
+                    final BlockState old = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (old == state) continue;
+
+                    if (old.hasBlockEntity() || state.hasBlockEntity()) {
+                        fallback.add(p);
+                        continue;
+                    }
+
+                    section.setBlockState(x & 15, y & 15, z & 15, state, false);
+                    checkPoi |= PoiTypes.hasPoi(state);
+                    written[count] = p;
+                    oldStates[count++] = old;
+                }
+            } finally {
+                section.release();
+            }
+
+            final boolean isEmpty = section.hasOnlyAir();
+            if (wasEmpty != isEmpty) {
+                lightEngine.updateSectionStatus(SectionPos.of(chunk.getPos(), sectionY), isEmpty);
+            }
+
+            for (int i = 0; i < count; i++) {
+                pos.set(written[i]);
+                final BlockState state = pending.get(written[i]);
+                for (Heightmap.Types type : HEIGHTMAPS) {
+                    chunk.getOrCreateHeightmapUnprimed(type)
+                         .update(pos.getX() & 15, pos.getY(), pos.getZ() & 15, state);
+                }
+                if (LightEngine.hasDifferentLightProperties(chunk, pos, oldStates[i], state)) {
+                    chunk.getSkyLightSources().update(chunk, pos.getX() & 15, pos.getY(), pos.getZ() & 15);
+                    lightEngine.checkBlock(pos);
+                }
+                if (checkPoi) level.onBlockStateChange(pos, oldStates[i], state);
+                chunkSource.blockChanged(pos);
+            }
+            changed += count;
+            sectionStart = sectionEnd;
+        }
+
+        if (changed > 0) {
+            chunk.setUnsaved(true);
+        }
+
+        for (int i = 0; i < fallback.size(); i++) {
+            final long p = fallback.getLong(i);
+            if (level.setBlock(pos.set(p), pending.get(p), flags)) changed++;
+        }
+        return changed;
+    }
+}
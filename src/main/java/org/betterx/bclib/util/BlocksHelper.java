@@ -42,6 +42,7 @@ public class BlocksHelper {
 
     protected static final BlockState AIR = Blocks.AIR.defaultBlockState();
     protected static final BlockState WATER = Blocks.WATER.defaultBlockState();
+    private static final Predicate<BlockState> NOT_AIR = state -> !state.isAir();
 
     public static void addBlockColor(Block block, int color) {
         COLOR_BY_BLOCK.put(block, color);
@@ -68,19 +69,19 @@ public class BlocksHelper {
     }
 
     public static int upRay(LevelAccessor world, BlockPos pos, int maxDist) {
-        int length = 0;
-        for (int j = 1; j < maxDist && (world.isEmptyBlock(pos.above(j))); j++) {
-            length++;
-        }
-        return length;
+        if (maxDist <= 1) return 0;
+        final int y = ColumnScanner
+                .of(world, pos.getX(), pos.getZ())
+                .find(pos.getY() + 1, pos.getY() + maxDist - 1, NOT_AIR);
+        return y == ColumnScanner.NOT_FOUND ? maxDist - 1 : y - pos.getY() - 1;
     }
 
     public static int downRay(LevelAccessor world, BlockPos pos, int maxDist) {
-        int length = 0;
-        for (int j = 1; j < maxDist && (world.isEmptyBlock(pos.below(j))); j++) {
-            length++;
-        }
-        return length;
+        if (maxDist <= 1) return 0;
+        final int y = ColumnScanner
+                .of(world, pos.getX(), pos.getZ())
+                .find(pos.getY() - 1, pos.getY() - maxDist + 1, NOT_AIR);
+        return y == ColumnScanner.NOT_FOUND ? maxDist - 1 : pos.getY() - 1 - y;
     }
 
     public static int downRayRep(LevelAccessor world, BlockPos pos, int maxDist) {
@@ -204,12 +205,12 @@ public class BlocksHelper {
             int minY,
             Predicate<BlockState> surface
     ) {
-        final MutableBlockPos POS = new MutableBlockPos(startPos.getX(), startPos.getY(), startPos.getZ());
-        for (int y = startPos.getY(); y >= minY; y--) {
-            POS.setY(y);
-            if (surface.test(level.getBlockState(POS))) return Optional.of(POS);
-        }
-        return Optional.empty();
+        if (startPos.getY() < minY) return Optional.empty();
+        final int y = ColumnScanner
+                .of(level, startPos.getX(), startPos.getZ())
+                .find(startPos.getY(), minY, surface);
+        if (y == ColumnScanner.NOT_FOUND) return Optional.empty();
+        return Optional.of(new BlockPos(startPos.getX(), y, startPos.getZ()));
     }
 
     public static boolean findSurface(
@@ -233,6 +234,9 @@ public class BlocksHelper {
             int length,
             Predicate<BlockState> surface
     ) {
+        if (dir.getAxis() == Direction.Axis.Y && length > 0) {
+            return findOnVerticalSurface(level, startPos, dir.getStepY(), length, surface);
+        }
         for (int len = 0; len < length; len++) {
             if (surface.test(level.getBlockState(startPos))) {
                 if (len == 0) { //we started inside of the surface
@@ -253,6 +257,30 @@ public class BlocksHelper {
         return false;
     }
 
+    private static boolean findOnVerticalSurface(
+            LevelAccessor level,
+            MutableBlockPos startPos,
+            int step,
+            int length,
+            Predicate<BlockState> surface
+    ) {
+        final ColumnScanner column = ColumnScanner.of(level, startPos.getX(), startPos.getZ());
+        final int startY = startPos.getY();
+        final int y;
+        if (surface.test(column.getBlockState(startY))) {
+            //we started inside of the surface
+            y = column.find(startY - step, startY - step * length, surface.negate());
+            startPos.setY(y == ColumnScanner.NOT_FOUND ? startY - step * length : y);
+        } else {
+            final int surfaceY = length > 1
+                    ? column.find(startY + step, startY + step * (length - 1), surface)
+                    : ColumnScanner.NOT_FOUND;
+            y = surfaceY == ColumnScanner.NOT_FOUND ? surfaceY : surfaceY - step;
+            startPos.setY(y == ColumnScanner.NOT_FOUND ? startY + step * length : y);
+        }
+        return y != ColumnScanner.NOT_FOUND;
+    }
+
     public static boolean findSurroundingSurface(
             LevelAccessor level,
             MutableBlockPos startPos,
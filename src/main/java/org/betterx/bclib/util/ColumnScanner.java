@@ -0,0 +1,148 @@
+package org.betterx.bclib.util;
+
+import net.minecraft.core.BlockPos.MutableBlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scans a single block column of a level section by section.
+ * <p>
+ * Blocks are read straight from the {@link LevelChunkSection}s of the chunk. Before a section is walked,
+ * its palette is checked, so sections that cannot contain a matching state (for example all-air or
+ * single-state sections) are skipped in one step. If the chunk is not available, the scanner falls back
+ * to reading single blocks from the level.
+ */
+public class ColumnScanner {
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
+    private static final BlockState VOID = Blocks.VOID_AIR.defaultBlockState();
+
+    private final LevelAccessor level;
+    @Nullable
+    private final ChunkAccess chunk;
+    private final int x;
+    private final int z;
+    private final MutableBlockPos pos;
+
+    private ColumnScanner(LevelAccessor level, int x, int z) {
+        this.level = level;
+        this.x = x;
+        this.z = z;
+        this.pos = new MutableBlockPos(x, 0, z);
+        this.chunk = level.getChunk(
+                SectionPos.blockToSectionCoord(x),
+                SectionPos.blockToSectionCoord(z),
+                ChunkStatus.EMPTY,
+                false
+        );
+    }
+
+    /**
+     * Creates a scanner for the column at the given block coordinates.
+     *
+     * @param level The level to read from
+     * @param x     block x
+     * @param z     block z
+     * @return A new scanner
+     */
+    public static ColumnScanner of(LevelAccessor level, int x, int z) {
+        return new ColumnScanner(level, x, z);
+    }
+
+    public BlockState getBlockState(int y) {
+        if (chunk == null) return level.getBlockState(pos.setY(y));
+
+        final int sectionIndex = chunk.getSectionIndex(y);
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) return VOID;
+        return chunk.getSection(sectionIndex).getBlockState(x & 15, y & 15, z & 15);
+    }
+
+    /**
+     * Finds the first block between {@code fromY} and {@code toY} (both inclusive) that matches the
+     * predicate. The scan runs from {@code fromY} towards {@code toY}, which may be above or below.
+     *
+     * @param fromY     first height to check
+     * @param toY       last height to check
+     * @param predicate the state to look for
+     * @return The height of the first match, or {@link #NOT_FOUND}
+     */
+    public int find(int fromY, int toY, Predicate<BlockState> predicate) {
+        final int step = toY >= fromY ? 1 : -1;
+        if (chunk == null) {
+            for (int y = fromY; y != toY + step; y += step) {
+                if (predicate.test(level.getBlockState(pos.setY(y)))) return y;
+            }
+            return NOT_FOUND;
+        }
+
+        final int minY = chunk.getMinBuildHeight();
+        final int maxY = chunk.getMaxBuildHeight();
+        final int lx = x & 15;
+        final int lz = z & 15;
+        Boolean voidMatches = null;
+
+        int y = fromY;
+        while (step > 0 ? y <= toY : y >= toY) {
+            if (y < minY || y >= maxY) {
+                if (voidMatches == null) voidMatches = predicate.test(VOID);
+                if (voidMatches) return y;
+                //jump to the build height, or past the end of the range
+                if (step > 0) y = y < minY ? minY : toY + 1;
+                else y = y >= maxY ? maxY - 1 : toY - 1;
+                continue;
+            }
+
+            final int sectionIndex = chunk.getSectionIndex(y);
+            final int sectionBottom = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+            final int sectionEnd = step > 0
+                    ? Math.min(sectionBottom + 15, toY)
+                    : Math.max(sectionBottom, toY);
+
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            if (section.getStates().maybeHas(predicate)) {
+                for (; step > 0 ? y <= sectionEnd : y >= sectionEnd; y += step) {
+                    if (predicate.test(section.getBlockState(lx, y & 15, lz))) return y;
+                }
+            } else {
+                y = sectionEnd + step;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Finds the highest block between {@code startY - 1} and {@code minY} (both inclusive) that matches
+     * {@code lower} while the block directly above matches {@code upper}.
+     * <p>
+     * Runs of blocks matching {@code lower} are skipped as a whole, so only the top of every run is
+     * checked against {@code upper}.
+     *
+     * @param startY the height of the first upper block
+     * @param minY   the lowest height of a lower block
+     * @param upper  the state above the transition
+     * @param lower  the state below the transition
+     * @return The height of the lower block, or {@link #NOT_FOUND}
+     */
+    public int findTransitionDown(int startY, int minY, Predicate<BlockState> upper, Predicate<BlockState> lower) {
+        int y = startY - 1;
+        while (y >= minY) {
+            y = find(y, minY, lower);
+            if (y == NOT_FOUND) return NOT_FOUND;
+            if (upper.test(getBlockState(y + 1))) return y;
+
+            //skip the rest of this run
+            if (y - 1 < minY) return NOT_FOUND;
+            y = find(y - 1, minY, lower.negate());
+            if (y == NOT_FOUND) return NOT_FOUND;
+            y--;
+        }
+        return NOT_FOUND;
+    }
+}
@@ -214,6 +214,27 @@ public class MHelper {
         }
     }
 
+    /**
+     * Picks a random index, weighted by the given cumulative weights.
+     *
+     * @param cumulativeWeights The running sum of all weights, must not be empty
+     * @param random            The random source to use. It is not used if there is only one weight
+     * @return The selected index
+     */
+    public static int randomWeightedIndex(float[] cumulativeWeights, RandomSource random) {
+        if (cumulativeWeights.length == 1) return 0;
+
+        final float rnd = random.nextFloat() * cumulativeWeights[cumulativeWeights.length - 1];
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] < rnd) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
     public static int sqr(int i) {
         return i * i;
     }
@@ -12,9 +12,11 @@ import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.state.BlockState;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Function;
 
@@ -124,6 +126,68 @@ public class SplineHelper {
         return result;
     }
 
+    /**
+     * The blocks a spline passes through, relative to the origin of the spline.
+     * <p>
+     * Every segment is walked in equal steps of at most one block along each axis, and a block is only added
+     * if it differs from the one before, so the joints between segments are visited once. A spline that is
+     * placed several times only needs to be rasterized once with {@link #rasterize(List)}.
+     */
+    public static final class Voxels {
+        private final LongArrayList positions = new LongArrayList();
+        //blocks on steep segments, the block below them is filled as well
+        private final BitSet steep = new BitSet();
+
+        private Voxels() {
+        }
+
+        private void addLine(Vector3f start, Vector3f end) {
+            final double dx = end.x() - start.x();
+            final double dy = end.y() - start.y();
+            final double dz = end.z() - start.z();
+            final double max = Math.max(Math.abs(dx), Math.max(Math.abs(dy), Math.abs(dz)));
+            final int steps = Math.max(1, Mth.ceil(max));
+            final boolean down = max > 0 && Math.abs(dy) / max > 0.2;
+
+            for (int i = 0; i <= steps; i++) {
+                final double t = (double) i / steps;
+                final long p = BlockPos.asLong(
+                        Mth.floor(start.x() + dx * t),
+                        Mth.floor(start.y() + dy * t),
+                        Mth.floor(start.z() + dz * t)
+                );
+                final int last = positions.size() - 1;
+                if (last >= 0 && positions.getLong(last) == p) {
+                    if (down) steep.set(last);
+                } else {
+                    positions.add(p);
+                    if (down) steep.set(last + 1);
+                }
+            }
+        }
+
+        public int size() {
+            return positions.size();
+        }
+    }
+
+    public static Voxels rasterize(List<Vector3f> spline) {
+        final Voxels voxels = new Voxels();
+        Vector3f startPos = spline.get(0);
+        for (int i = 1; i < spline.size(); i++) {
+            Vector3f endPos = spline.get(i);
+            voxels.addLine(startPos, endPos);
+            startPos = endPos;
+        }
+        return voxels;
+    }
+
+    public static Voxels rasterize(Vector3f start, Vector3f end) {
+        final Voxels voxels = new Voxels();
+        voxels.addLine(start, end);
+        return voxels;
+    }
+
     public static boolean fillSpline(
             List<Vector3f> spline,
             WorldGenLevel world,
@@ -131,13 +195,42 @@ public class SplineHelper {
             BlockPos pos,
             Function<BlockState, Boolean> replace
     ) {
-        Vector3f startPos = spline.get(0);
-        for (int i = 1; i < spline.size(); i++) {
-            Vector3f endPos = spline.get(i);
-            if (!(fillLine(startPos, endPos, world, state, pos, replace))) {
-                return false;
+        return fillSpline(rasterize(spline), world, state, pos, replace);
+    }
+
+    /**
+     * Fills the blocks of the spline at {@code pos}, until a block is found that is neither {@code state} nor
+     * replaceable.
+     *
+     * @return {@code false} if the spline was not filled completely
+     */
+    public static boolean fillSpline(
+            Voxels voxels,
+            WorldGenLevel world,
+            BlockState state,
+            BlockPos pos,
+            Function<BlockState, Boolean> replace
+    ) {
+        final BlockEditBuffer buffer = new BlockEditBuffer(world);
+        try {
+            BlockState bState;
+            MutableBlockPos bPos = new MutableBlockPos();
+            for (int i = 0; i < voxels.positions.size(); i++) {
+                bPos.set(voxels.positions.getLong(i)).move(pos);
+                bState = buffer.getBlockState(bPos);
+                if (bState.equals(state) || replace.apply(bState)) {
+                    buffer.set(bPos, state);
+                    bPos.setY(bPos.getY() - 1);
+                    bState = buffer.getBlockState(bPos);
+                    if (voxels.steep.get(i) && bState.equals(state) || replace.apply(bState)) {
+                        buffer.set(bPos, state);
+                    }
+                } else {
+                    return false;
+                }
             }
-            startPos = endPos;
+        } finally {
+            buffer.apply();
         }
 
         return true;
@@ -150,70 +243,38 @@ public class SplineHelper {
             BlockPos pos,
             Function<BlockState, Boolean> replace
     ) {
-        Vector3f startPos = spline.get(0);
-        for (int i = 1; i < spline.size(); i++) {
-            Vector3f endPos = spline.get(i);
-            fillLineForce(startPos, endPos, world, state, pos, replace);
-            startPos = endPos;
-        }
+        fillSplineForce(rasterize(spline), world, state, pos, replace);
     }
 
-    public static boolean fillLine(
-            Vector3f start,
-            Vector3f end,
+    /**
+     * Fills all replaceable blocks of the spline at {@code pos}.
+     */
+    public static void fillSplineForce(
+            Voxels voxels,
             WorldGenLevel world,
             BlockState state,
             BlockPos pos,
             Function<BlockState, Boolean> replace
     ) {
-        float dx = end.x() - start.x();
-        float dy = end.y() - start.y();
-        float dz = end.z() - start.z();
-        float max = MHelper.max(Math.abs(dx), Math.abs(dy), Math.abs(dz));
-        int count = MHelper.floor(max + 1);
-        dx /= max;
-        dy /= max;
-        dz /= max;
-        float x = start.x();
-        float y = start.y();
-        float z = start.z();
-        boolean down = Math.abs(dy) > 0.2;
-
+        final BlockEditBuffer buffer = new BlockEditBuffer(world);
         BlockState bState;
         MutableBlockPos bPos = new MutableBlockPos();
-        for (int i = 0; i < count; i++) {
-            bPos.set(x + pos.getX(), y + pos.getY(), z + pos.getZ());
-            bState = world.getBlockState(bPos);
-            if (bState.equals(state) || replace.apply(bState)) {
-                BlocksHelper.setWithoutUpdate(world, bPos, state);
+        for (int i = 0; i < voxels.positions.size(); i++) {
+            bPos.set(voxels.positions.getLong(i)).move(pos);
+            bState = buffer.getBlockState(bPos);
+            if (replace.apply(bState)) {
+                buffer.set(bPos, state);
                 bPos.setY(bPos.getY() - 1);
-                bState = world.getBlockState(bPos);
-                if (down && bState.equals(state) || replace.apply(bState)) {
-                    BlocksHelper.setWithoutUpdate(world, bPos, state);
+                bState = buffer.getBlockState(bPos);
+                if (voxels.steep.get(i) && replace.apply(bState)) {
+                    buffer.set(bPos, state);
                 }
-            } else {
-                return false;
             }
-            x += dx;
-            y += dy;
-            z += dz;
-        }
-        bPos.set(end.x() + pos.getX(), end.y() + pos.getY(), end.z() + pos.getZ());
-        bState = world.getBlockState(bPos);
-        if (bState.equals(state) || replace.apply(bState)) {
-            BlocksHelper.setWithoutUpdate(world, bPos, state);
-            bPos.setY(bPos.getY() - 1);
-            bState = world.getBlockState(bPos);
-            if (down && bState.equals(state) || replace.apply(bState)) {
-                BlocksHelper.setWithoutUpdate(world, bPos, state);
-            }
-            return true;
-        } else {
-            return false;
         }
+        buffer.apply();
     }
 
-    public static void fillLineForce(
+    public static boolean fillLine(
             Vector3f start,
             Vector3f end,
             WorldGenLevel world,
@@ -221,46 +282,18 @@ public class SplineHelper {
             BlockPos pos,
             Function<BlockState, Boolean> replace
     ) {
-        float dx = end.x() - start.x();
-        float dy = end.y() - start.y();
-        float dz = end.z() - start.z();
-        float max = MHelper.max(Math.abs(dx), Math.abs(dy), Math.abs(dz));
-        int count = MHelper.floor(max + 1);
-        dx /= max;
-        dy /= max;
-        dz /= max;
-        float x = start.x();
-        float y = start.y();
-        float z = start.z();
-        boolean down = Math.abs(dy) > 0.2;
+        return fillSpline(rasterize(start, end), world, state, pos, replace);
+    }
 
-        BlockState bState;
-        MutableBlockPos bPos = new MutableBlockPos();
-        for (int i = 0; i < count; i++) {
-            bPos.set(x + pos.getX(), y + pos.getY(), z + pos.getZ());
-            bState = world.getBlockState(bPos);
-            if (replace.apply(bState)) {
-                BlocksHelper.setWithoutUpdate(world, bPos, state);
-                bPos.setY(bPos.getY() - 1);
-                bState = world.getBlockState(bPos);
-                if (down && replace.apply(bState)) {
-                    BlocksHelper.setWithoutUpdate(world, bPos, state);
-                }
-            }
-            x += dx;
-            y += dy;
-            z += dz;
-        }
-        bPos.set(end.x() + pos.getX(), end.y() + pos.getY(), end.z() + pos.getZ());
-        bState = world.getBlockState(bPos);
-        if (replace.apply(bState)) {
-            BlocksHelper.setWithoutUpdate(world, bPos, state);
-            bPos.setY(bPos.getY() - 1);
-            bState = world.getBlockState(bPos);
-            if (down && replace.apply(bState)) {
-                BlocksHelper.setWithoutUpdate(world, bPos, state);
-            }
-        }
+    public static void fillLineForce(
+            Vector3f start,
+            Vector3f end,
+            WorldGenLevel world,
+            BlockState state,
+            BlockPos pos,
+            Function<BlockState, Boolean> replace
+    ) {
+        fillSplineForce(rasterize(start, end), world, state, pos, replace);
     }
 
     public static boolean canGenerate(
@@ -306,34 +339,7 @@ public class SplineHelper {
             WorldGenLevel world,
             Function<BlockState, Boolean> canReplace
     ) {
-        int count = spline.size();
-        Vector3f vec = spline.get(0);
-        MutableBlockPos mut = new MutableBlockPos();
-        float x1 = start.getX() + vec.x();
-        float y1 = start.getY() + vec.y();
-        float z1 = start.getZ() + vec.z();
-        for (int i = 1; i < count; i++) {
-            vec = spline.get(i);
-            float x2 = start.getX() + vec.x();
-            float y2 = start.getY() + vec.y();
-            float z2 = start.getZ() + vec.z();
-
-            for (float py = y1; py < y2; py += 3) {
-                if (py - start.getY() < 10) continue;
-                float lerp = (py - y1) / (y2 - y1);
-                float x = Mth.lerp(lerp, x1, x2);
-                float z = Mth.lerp(lerp, z1, z2);
-                mut.set(x, py, z);
-                if (!canReplace.apply(world.getBlockState(mut))) {
-                    return false;
-                }
-            }
-
-            x1 = x2;
-            y1 = y2;
-            z1 = z2;
-        }
-        return true;
+        return canGenerate(spline, 1, start, world, canReplace);
     }
 
     public static Vector3f getPos(List<Vector3f> spline, float index) {
@@ -8,20 +8,26 @@ import net.minecraft.core.BlockPos.MutableBlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.NoteBlockInstrument;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.material.FluidState;
 
 import com.google.common.collect.Sets;
 
 import java.util.Set;
+import org.jetbrains.annotations.Nullable;
 
 public class StructureErode {
     private static final Direction[] DIR = BlocksHelper.makeHorizontal();
 
-    public static void erode(WorldGenLevel world, BoundingBox bounds, int iterations, RandomSource random) {
+    public static void erode(WorldGenLevel level, BoundingBox bounds, int iterations, RandomSource random) {
+        final Buffer world = new Buffer(level, bounds);
         MutableBlockPos mut = new MutableBlockPos();
         boolean canDestruct = true;
         for (int i = 0; i < iterations; i++) {
@@ -66,7 +72,7 @@ public class StructureErode {
                                                 world,
                                                 mut
                                         )) {
-                                            BlocksHelper.setWithoutUpdate(world, mut, Blocks.AIR);
+                                            world.set(mut, Blocks.AIR);
                                         }
                                     }
                                 }
@@ -84,13 +90,13 @@ public class StructureErode {
                             for (Direction dir : DIR) {
                                 if (world.isEmptyBlock(mut.relative(dir)) && world.isEmptyBlock(mut.below()
                                                                                                    .relative(dir))) {
-                                    BlocksHelper.setWithoutUpdate(world, mut, Blocks.AIR);
+                                    world.set(mut, Blocks.AIR);
                                     mut.move(dir).move(Direction.DOWN);
                                     for (int py = mut.getY(); y >= bounds.minY() - 10; y--) {
                                         mut.setY(py - 1);
                                         if (!world.isEmptyBlock(mut)) {
                                             mut.setY(py);
-                                            BlocksHelper.setWithoutUpdate(world, mut, state);
+                                            world.set(mut, state);
                                             break;
                                         }
                                     }
@@ -102,7 +108,7 @@ public class StructureErode {
                                 world,
                                 mut
                         )) {
-                            BlocksHelper.setWithoutUpdate(world, mut, Blocks.AIR);
+                            world.set(mut, Blocks.AIR);
                         }
                     }
                 }
@@ -116,12 +122,12 @@ public class StructureErode {
                     mut.setY(y);
                     BlockState state = world.getBlockState(mut);
                     if (!ignore(state, world, mut) && world.isEmptyBlock(mut.below())) {
-                        BlocksHelper.setWithoutUpdate(world, mut, Blocks.AIR);
+                        world.set(mut, Blocks.AIR);
                         for (int py = mut.getY(); py >= bounds.minY() - 10; py--) {
                             mut.setY(py - 1);
                             if (!world.isEmptyBlock(mut)) {
                                 mut.setY(py);
-                                BlocksHelper.setWithoutUpdate(world, mut, state);
+                                world.set(mut, state);
                                 break;
                             }
                         }
@@ -129,6 +135,7 @@ public class StructureErode {
                 }
             }
         }
+        world.flush();
     }
 
     public static void erodeIntense(WorldGenLevel world, BoundingBox bounds, RandomSource random) {
@@ -168,7 +175,8 @@ public class StructureErode {
         drop(world, bounds);
     }
 
-    private static void drop(WorldGenLevel world, BoundingBox bounds) {
+    private static void drop(WorldGenLevel level, BoundingBox bounds) {
+        final Buffer world = new Buffer(level, bounds);
         MutableBlockPos mut = new MutableBlockPos();
 
         Set<BlockPos> blocks = Sets.newHashSet();
@@ -190,6 +198,7 @@ public class StructureErode {
         }
 
         if (edge.isEmpty()) {
+            world.flush();
             return;
         }
 
@@ -224,21 +233,22 @@ public class StructureErode {
                     mut.setY(y);
                     BlockState state = world.getBlockState(mut);
                     if (!ignore(state, world, mut) && !blocks.contains(mut)) {
-                        BlocksHelper.setWithoutUpdate(world, mut, Blocks.AIR);
+                        world.set(mut, Blocks.AIR);
                         while (world.getBlockState(mut).canBeReplaced() && mut.getY() > minY) {
                             mut.setY(mut.getY() - 1);
                         }
                         if (mut.getY() > minY) {
                             mut.setY(mut.getY() + 1);
-                            BlocksHelper.setWithoutUpdate(world, mut, state);
+                            world.set(mut, state);
                         }
                     }
                 }
             }
         }
+        world.flush();
     }
 
-    private static boolean ignore(BlockState state, WorldGenLevel world, BlockPos pos) {
+    private static boolean ignore(BlockState state, BlockGetter world, BlockPos pos) {
         if (state.is(CommonBlockTags.GEN_END_STONES) || state.is(BlockTags.NYLIUM)) {
             return true;
         }
@@ -248,7 +258,7 @@ public class StructureErode {
                 || BlocksHelper.isInvulnerable(state, world, pos);
     }
 
-    private static boolean isTerrainNear(WorldGenLevel world, BlockPos pos) {
+    private static boolean isTerrainNear(BlockGetter world, BlockPos pos) {
         for (Direction dir : BlocksHelper.DIRECTIONS) {
             if (world.getBlockState(pos.relative(dir)).is(CommonBlockTags.GEN_END_STONES)) {
                 return true;
@@ -258,6 +268,7 @@ public class StructureErode {
     }
 
     public static void cover(WorldGenLevel world, BoundingBox bounds, RandomSource random, BlockState defaultBlock) {
+        final Buffer buffer = new Buffer(world, bounds);
         MutableBlockPos mut = new MutableBlockPos();
         for (int x = bounds.minX(); x <= bounds.maxX(); x++) {
             mut.setX(x);
@@ -267,13 +278,124 @@ public class StructureErode {
                 if (top == null) continue;
                 for (int y = bounds.maxY(); y >= bounds.minY(); y--) {
                     mut.setY(y);
-                    BlockState state = world.getBlockState(mut);
-                    if (state.is(CommonBlockTags.TERRAIN) && !world.getBlockState(mut.above())
-                                                                   .isSolid()) {
-                        BlocksHelper.setWithoutUpdate(world, mut, top);
+                    BlockState state = buffer.getBlockState(mut);
+                    if (state.is(CommonBlockTags.TERRAIN) && !buffer.getBlockState(mut.above())
+                                                                    .isSolid()) {
+                        buffer.set(mut, top);
                     }
                 }
             }
         }
+        buffer.flush();
+    }
+
+    /**
+     * Dense copy of the blocks around an eroded {@link BoundingBox}.
+     * <p>
+     * Blocks are read from the level the first time they are accessed, all following reads and writes only
+     * touch the local array. {@link #flush()} writes back the voxels whose state actually changed. Positions
+     * outside the buffered volume are passed straight through to the level, so the result is the same as
+     * working on the level directly.
+     */
+    private static class Buffer implements BlockGetter {
+        private static final int MARGIN = 4;
+        private static final int MARGIN_BELOW = 11;
+        private final WorldGenLevel level;
+        private final int minX, minY, minZ;
+        private final int sizeX, sizeY, sizeZ;
+        private final BlockState[] original;
+        private final BlockState[] states;
+        private final MutableBlockPos readPos = new MutableBlockPos();
+
+        Buffer(WorldGenLevel level, BoundingBox bounds) {
+            this.level = level;
+            this.minX = bounds.minX() - MARGIN;
+            this.minZ = bounds.minZ() - MARGIN;
+            this.minY = Math.max(level.getMinBuildHeight(), bounds.minY() - MARGIN_BELOW);
+            final int maxY = Math.min(level.getMaxBuildHeight() - 1, bounds.maxY() + MARGIN);
+            this.sizeX = bounds.getXSpan() + MARGIN * 2;
+            this.sizeZ = bounds.getZSpan() + MARGIN * 2;
+            this.sizeY = Math.max(0, maxY - minY + 1);
+            this.original = new BlockState[sizeX * sizeY * sizeZ];
+            this.states = new BlockState[original.length];
+        }
+
+        private int index(int x, int y, int z) {
+            x -= minX;
+            y -= minY;
+            z -= minZ;
+            if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) return -1;
+            return (y * sizeZ + z) * sizeX + x;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            final int index = index(pos.getX(), pos.getY(), pos.getZ());
+            if (index < 0) return level.getBlockState(pos);
+            BlockState state = states[index];
+            if (state == null) {
+                state = level.getBlockState(readPos.set(pos));
+                original[index] = state;
+                states[index] = state;
+            }
+            return state;
+        }
+
+        boolean isEmptyBlock(BlockPos pos) {
+            return getBlockState(pos).isAir();
+        }
+
+        void set(BlockPos pos, BlockState state) {
+            final int index = index(pos.getX(), pos.getY(), pos.getZ());
+            if (index < 0) {
+                BlocksHelper.setWithoutUpdate(level, pos, state);
+                return;
+            }
+            if (states[index] == null) {
+                original[index] = level.getBlockState(pos);
+            }
+            states[index] = state;
+        }
+
+        void set(BlockPos pos, Block block) {
+            set(pos, block.defaultBlockState());
+        }
+
+        void flush() {
+            final MutableBlockPos pos = new MutableBlockPos();
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    for (int x = 0; x < sizeX; x++) {
+                        final int index = (y * sizeZ + z) * sizeX + x;
+                        final BlockState state = states[index];
+                        if (state != null && state != original[index]) {
+                            BlocksHelper.setWithoutUpdate(level, pos.set(minX + x, minY + y, minZ + z), state);
+                            original[index] = state;
+                        }
+                    }
+                }
+            }
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return level.getBlockEntity(pos);
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return level.getHeight();
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return level.getMinBuildHeight();
+        }
     }
 }
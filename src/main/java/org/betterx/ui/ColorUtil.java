@@ -17,12 +17,10 @@ import net.minecraft.world.item.Item;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
-import com.google.common.collect.Maps;
-
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ColorUtil {
     public static final int BLACK = ColorHelper.BLACK;
@@ -295,14 +293,15 @@ public class ColorUtil {
         return MHelper.sqr(r1 - r2) + MHelper.sqr(g1 - g2) + MHelper.sqr(b1 - b2);
     }
 
-    private static final Map<ResourceLocation, Integer> colorPalette = Maps.newHashMap();
+    private static final Map<ResourceLocation, Integer> colorPalette = new ConcurrentHashMap<>();
 
     @Environment(EnvType.CLIENT)
     public static int extractColor(Item item) {
         ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
         if (id.equals(BuiltInRegistries.ITEM.getDefaultKey())) return -1;
-        if (colorPalette.containsKey(id)) {
-            return colorPalette.get(id);
+        final Integer cached = colorPalette.get(id);
+        if (cached != null) {
+            return cached;
         }
         ResourceLocation texture;
         if (item instanceof BlockItem) {
@@ -311,20 +310,22 @@ public class ColorUtil {
             texture = new ResourceLocation(id.getNamespace(), "textures/item/" + id.getPath() + ".png");
         }
         NativeImage image = loadImage(texture, 16, 16);
-        List<Integer> colors = new ArrayList<>();
+        final int height = Math.min(16, image.getHeight());
+        int[] colors = new int[image.getWidth() * height];
+        int count = 0;
         for (int i = 0; i < image.getWidth(); i++) {
-            for (int j = 0; j < 16; j++) {
+            for (int j = 0; j < height; j++) {
                 int col = image.getPixelRGBA(i, j);
                 if (((col >> 24) & 255) > 0) {
-                    colors.add(ABGRtoARGB(col));
+                    colors[count++] = ABGRtoARGB(col);
                 }
             }
         }
         image.close();
 
-        if (colors.size() == 0) return -1;
+        if (count == 0) return -1;
 
-        ColorExtractor extractor = new ColorExtractor(colors);
+        ColorExtractor extractor = new ColorExtractor(colors, count);
         int color = extractor.analize();
         colorPalette.put(id, color);
 
@@ -337,8 +338,8 @@ public class ColorUtil {
         ResourceManager resourceManager = minecraft.getResourceManager();
         var imgResource = resourceManager.getResource(image);
         if (imgResource.isPresent()) {
-            try {
-                return NativeImage.read(imgResource.get().open());
+            try (InputStream stream = imgResource.get().open()) {
+                return NativeImage.read(stream);
             } catch (IOException e) {
                 BCLib.LOGGER.warning("Can't load texture image: {}. Will be created empty image.", image);
                 BCLib.LOGGER.warning("Cause: {}.", e.getMessage());
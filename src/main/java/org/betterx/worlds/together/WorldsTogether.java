@@ -8,6 +8,7 @@ import org.betterx.worlds.together.worldPreset.WorldPresets;
 
 import net.minecraft.resources.ResourceLocation;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.loader.api.FabricLoader;
 
 public class WorldsTogether {
@@ -29,6 +30,7 @@ public class WorldsTogether {
 
 
         WorldConfig.registerModCache(WorldsTogether.MOD_ID);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> WorldConfig.flush());
         WorldPresets.ensureStaticallyLoaded();
     }
 
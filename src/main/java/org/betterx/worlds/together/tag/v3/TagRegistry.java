@@ -22,7 +22,6 @@ import net.minecraft.world.level.biome.Biome;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -112,23 +111,9 @@ public class TagRegistry<T> {
 
         void add(TagKey<Biome> tagID, boolean optional, ResourceKey<Biome>... elements) {
             if (isFrozen) WorldsTogether.LOGGER.warning("Adding Tag " + tagID + " after the API was frozen.");
-            synchronized (this) {
-                Set<TagEntry> set = getSetForTag(tagID);
-                for (ResourceKey<Biome> element : elements) {
-                    ResourceLocation id = element.location();
-
-                    //only add if the set doesn't already contain the element
-                    for (TagEntry tagEntry : set) {
-                        if (!tagEntry.elementOrTag().tag() && tagEntry.elementOrTag().id().equals(id)) {
-                            id = null;
-                            break;
-                        }
-                    }
-
-                    if (id != null) {
-                        set.add(optional ? TagEntry.optionalElement(id) : TagEntry.element(id));
-                    }
-                }
+            TagSet set = getTagSet(tagID);
+            for (ResourceKey<Biome> element : elements) {
+                set.addElement(element.location(), optional);
             }
         }
 
@@ -179,7 +164,7 @@ public class TagRegistry<T> {
     }
 
     public final String directory;
-    private final Map<TagKey<T>, Set<TagEntry>> tags = Maps.newConcurrentMap();
+    private final Map<TagKey<T>, TagSet> tags = Maps.newConcurrentMap();
     public final ResourceKey<? extends Registry<T>> registryKey;
     private final Function<T, ResourceLocation> locationProvider;
 
@@ -202,7 +187,25 @@ public class TagRegistry<T> {
         if (tag == null) {
             return new HashSet<>();
         }
-        return tags.computeIfAbsent(tag, k -> Sets.newHashSet());
+        return getTagSet(tag);
+    }
+
+    TagSet getTagSet(TagKey<T> tag) {
+        if (tag == null) {
+            return new TagSet();
+        }
+        return tags.computeIfAbsent(tag, k -> new TagSet());
+    }
+
+    /**
+     * Creates a new {@link Bulk} buffer for this registry. Entries added to the buffer are only
+     * written to the registry when {@link Bulk#commit()} is called, which locks every touched tag
+     * once instead of once per element.
+     *
+     * @return a new, empty {@link Bulk} buffer
+     */
+    public Bulk<T> bulk() {
+        return new Bulk<>(this);
     }
 
     /**
@@ -249,10 +252,10 @@ public class TagRegistry<T> {
 
     public void addUntyped(TagKey<T> tagID, ResourceLocation... elements) {
         if (isFrozen) WorldsTogether.LOGGER.warning("Adding Tag " + tagID + " after the API was frozen.");
-        Set<TagEntry> set = getSetForTag(tagID);
+        TagSet set = getTagSet(tagID);
         for (ResourceLocation id : elements) {
             if (id != null) {
-                set.add(TagEntry.element(id));
+                set.addElement(id, false);
             }
         }
     }
@@ -298,35 +301,18 @@ public class TagRegistry<T> {
 
     protected void add(TagKey<T> tagID, boolean optional, T... elements) {
         if (isFrozen) WorldsTogether.LOGGER.warning("Adding Tag " + tagID + " after the API was frozen.");
-        Set<TagEntry> set = getSetForTag(tagID);
+        TagSet set = getTagSet(tagID);
         for (T element : elements) {
             ResourceLocation id = locationProvider.apply(element);
-
-            //only add if the set doesn't already contain the element
-            for (TagEntry tagEntry : set) {
-                if (!tagEntry.elementOrTag().tag() && tagEntry.elementOrTag().id().equals(id)) {
-                    id = null;
-                    break;
-                }
-            }
-
             if (id != null) {
-                set.add(optional ? TagEntry.optionalElement(id) : TagEntry.element(id));
+                set.addElement(id, optional);
             }
         }
     }
 
     protected boolean contains(TagKey<T> tagID, T element) {
-        final Set<TagEntry> set = getSetForTag(tagID);
         final ResourceLocation id = locationProvider.apply(element);
-        if (id != null) {
-            for (var entry : set)
-                if (!entry.elementOrTag().tag()) {
-                    if (id.equals(entry.elementOrTag().id()))
-                        return true;
-                }
-        }
-        return false;
+        return id != null && getTagSet(tagID).containsElement(id);
     }
 
     protected void add(T element, TagKey<T>... tagIDs) {
@@ -336,7 +322,7 @@ public class TagRegistry<T> {
     }
 
     public void forEach(BiConsumer<ResourceLocation, Set<TagEntry>> consumer) {
-        tags.forEach((a, b) -> consumer.accept(a.location(), b));
+        tags.forEach((a, b) -> consumer.accept(a.location(), b.snapshot()));
     }
 
     public void forEachTag(TriConsumer<TagKey<T>, List<ResourceLocation>, List<TagKey<T>>> consumer) {
@@ -351,7 +337,7 @@ public class TagRegistry<T> {
             List<ResourceLocation> locations = new LinkedList<>();
             List<TagKey<T>> tags = new LinkedList<>();
 
-            set.forEach(e -> {
+            set.snapshot().forEach(e -> {
                 ExtraCodecs.TagOrElementLocation t = e.elementOrTag();
                 if (allow == null || allow.test(tag, t.id())) {
                     if (t.tag()) {
@@ -375,7 +361,7 @@ public class TagRegistry<T> {
             List<Pair<TagKey<T>, TagEntry>> tags = new LinkedList<>();
 
 
-            set.forEach(e -> {
+            set.snapshot().forEach(e -> {
                 ExtraCodecs.TagOrElementLocation t = e.elementOrTag();
                 if (allow == null || allow.test(tag, t.id())) {
                     if (t.tag()) {
@@ -407,4 +393,170 @@ public class TagRegistry<T> {
         ids.forEach(value -> builder.add(new TagLoader.EntryWithSource(value, WorldsTogether.MOD_ID)));
         return builder;
     }
+
+    /**
+     * Collects tag entries for one {@link TagRegistry} without touching the shared tag sets.
+     * <p>
+     * A buffer is meant to be used by a single thread. Several threads can fill their own buffers
+     * in parallel and {@link #commit()} them afterward.
+     *
+     * @param <T> The type of the tagged elements
+     */
+    public static class Bulk<T> {
+        private final TagRegistry<T> registry;
+        private final Map<TagKey<T>, Map<ResourceLocation, Boolean>> pending = new HashMap<>();
+
+        Bulk(TagRegistry<T> registry) {
+            this.registry = registry;
+        }
+
+        @SafeVarargs
+        public final Bulk<T> add(TagKey<T> tagID, T... elements) {
+            for (T element : elements) {
+                add(tagID, false, element);
+            }
+            return this;
+        }
+
+        @SafeVarargs
+        public final Bulk<T> addOptional(TagKey<T> tagID, T... elements) {
+            for (T element : elements) {
+                add(tagID, true, element);
+            }
+            return this;
+        }
+
+        @SafeVarargs
+        public final Bulk<T> add(T element, TagKey<T>... tagIDs) {
+            for (TagKey<T> tagID : tagIDs) {
+                add(tagID, false, element);
+            }
+            return this;
+        }
+
+        private void add(TagKey<T> tagID, boolean optional, T element) {
+            if (tagID == null) return;
+            final ResourceLocation id = registry.locationProvider.apply(element);
+            if (id != null) {
+                pending.computeIfAbsent(tagID, k -> new LinkedHashMap<>()).putIfAbsent(id, optional);
+            }
+        }
+
+        /**
+         * Checks the buffered entries as well as the entries already committed to the registry.
+         *
+         * @param tagID   The tag to check
+         * @param element The element to look for
+         * @return {@code true} if the element is part of the tag
+         */
+        public boolean contains(TagKey<T> tagID, T element) {
+            final ResourceLocation id = registry.locationProvider.apply(element);
+            if (id == null) return false;
+            final Map<ResourceLocation, Boolean> buffered = pending.get(tagID);
+            if (buffered != null && buffered.containsKey(id)) return true;
+            return registry.getTagSet(tagID).containsElement(id);
+        }
+
+        /**
+         * Writes all buffered entries to the registry and clears this buffer.
+         */
+        public void commit() {
+            if (registry.isFrozen && !pending.isEmpty())
+                WorldsTogether.LOGGER.warning("Adding Tags " + pending.keySet() + " after the API was frozen.");
+            pending.forEach((tagID, entries) -> registry.getTagSet(tagID).addElements(entries));
+            pending.clear();
+        }
+    }
+
+    /**
+     * The entries of a single tag. Element entries are indexed by id, so adding and checking an
+     * element no longer needs to scan the whole tag. All access is synchronized on the set itself.
+     */
+    static class TagSet extends AbstractSet<TagEntry> {
+        private final Set<TagEntry> entries = new LinkedHashSet<>();
+        private final Set<ResourceLocation> elementIds = new HashSet<>();
+
+        synchronized void addElement(ResourceLocation id, boolean optional) {
+            if (elementIds.add(id)) {
+                entries.add(optional ? TagEntry.optionalElement(id) : TagEntry.element(id));
+            }
+        }
+
+        synchronized void addElements(Map<ResourceLocation, Boolean> elements) {
+            elements.forEach(this::addElement);
+        }
+
+        synchronized boolean containsElement(ResourceLocation id) {
+            return elementIds.contains(id);
+        }
+
+        synchronized List<TagEntry> snapshot() {
+            return new ArrayList<>(entries);
+        }
+
+        @Override
+        public synchronized boolean add(TagEntry entry) {
+            final ExtraCodecs.TagOrElementLocation location = entry.elementOrTag();
+            if (!location.tag() && !elementIds.add(location.id())) {
+                return false;
+            }
+            return entries.add(entry);
+        }
+
+        @Override
+        public synchronized boolean remove(Object o) {
+            if (entries.remove(o)) {
+                final ExtraCodecs.TagOrElementLocation location = ((TagEntry) o).elementOrTag();
+                if (!location.tag()) elementIds.remove(location.id());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public synchronized boolean contains(Object o) {
+            return entries.contains(o);
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+            elementIds.clear();
+        }
+
+        @Override
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        /**
+         * Iterates over a snapshot of the entries, so the set can be changed while iterating. {@code remove()}
+         * removes the current entry from the set.
+         */
+        @Override
+        public Iterator<TagEntry> iterator() {
+            final Iterator<TagEntry> snapshot = snapshot().iterator();
+            return new Iterator<>() {
+                private TagEntry current;
+
+                @Override
+                public boolean hasNext() {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public TagEntry next() {
+                    current = snapshot.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) throw new IllegalStateException();
+                    TagSet.this.remove(current);
+                    current = null;
+                }
+            };
+        }
+    }
 }
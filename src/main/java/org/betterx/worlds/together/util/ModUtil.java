@@ -5,26 +5,58 @@ import org.betterx.worlds.together.WorldsTogether;
 import net.fabricmc.loader.api.*;
 import net.fabricmc.loader.api.metadata.*;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class ModUtil {
-    private static Map<String, ModInfo> mods;
+    private static final Path INDEX_FILE = PathUtil.GAME_FOLDER.resolve(".cache")
+                                                               .resolve(WorldsTogether.MOD_ID)
+                                                               .resolve("mod_index.json");
+    private static volatile Map<String, ModInfo> mods;
+
+    /**
+     * The metadata fields of a mod file, together with the size and modification time the file had when
+     * they were read.
+     */
+    private record IndexEntry(long size, long modified, JsonObject data) {
+        JsonObject toJson() {
+            JsonObject obj = new JsonObject();
+            obj.addProperty("size", size);
+            obj.addProperty("modified", modified);
+            obj.add("data", data);
+            return obj;
+        }
+
+        static IndexEntry fromJson(JsonElement element) {
+            if (element == null || !element.isJsonObject()) return null;
+            JsonObject obj = element.getAsJsonObject();
+            if (!obj.has("size") || !obj.has("modified") || !obj.has("data")) return null;
+            return new IndexEntry(
+                    obj.get("size").getAsLong(),
+                    obj.get("modified").getAsLong(),
+                    obj.getAsJsonObject("data")
+            );
+        }
+    }
 
     /**
      * Unloads the cache of available mods created from {@link #getMods()}
@@ -40,197 +72,281 @@ public class ModUtil {
      * calling {@link #invalidateCachedMods()}
      * <p>
      * An error message is printed if a mod fails to load, but the parsing will continue.
+     * <p>
+     * Mod files are read in parallel. The metadata of every file is stored in an index in the game folder
+     * ({@code .cache/worlds_together/mod_index.json}), together with the size and modification time of the
+     * file. Files that did not change since the last scan are not opened again.
      *
      * @return A map of all found mods. (key=ModID, value={@link ModInfo})
      */
     public static Map<String, ModInfo> getMods() {
-        if (mods != null) return mods;
-
-        mods = new HashMap<>();
-        PathUtil.fileWalker(PathUtil.MOD_FOLDER.toFile(), false, (ModUtil::accept));
+        Map<String, ModInfo> result = mods;
+        if (result != null) return result;
 
-        return mods;
+        synchronized (ModUtil.class) {
+            if (mods == null) mods = scanMods();
+            return mods;
+        }
     }
 
-    private static ModMetadata readJSON(InputStream is, String sourceFile) throws IOException {
-        try (JsonReader reader = new JsonReader(new InputStreamReader(
-                is,
-                StandardCharsets.UTF_8
-        ))) {
-            JsonObject data = JsonParser.parseReader(reader)
-                                        .getAsJsonObject();
-            Version ver;
+    private static Map<String, ModInfo> scanMods() {
+        final List<Path> files = new ArrayList<>();
+        PathUtil.fileWalker(PathUtil.MOD_FOLDER.toFile(), false, files::add);
+
+        final Map<String, IndexEntry> index = loadIndex();
+        //entries are null for files without readable metadata
+        final List<IndexEntry> entries = files
+                .parallelStream()
+                .map(file -> readEntry(file, index.get(file.toString())))
+                .toList();
+
+        //insert in file order, so a duplicate ID resolves the same way on every scan
+        final Map<String, ModInfo> result = new HashMap<>();
+        final Map<String, IndexEntry> newIndex = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            final Path file = files.get(i);
+            final IndexEntry entry = entries.get(i);
+            if (entry == null) continue;
             try {
-                ver = SemanticVersion.parse(data.get("version").getAsString());
-            } catch (VersionParsingException e) {
-                WorldsTogether.LOGGER.error("Unable to parse Version in " + sourceFile);
-                return null;
+                ModMetadata mc = readJSON(entry.data, file.toUri().toString());
+                if (mc != null) {
+                    result.put(mc.getId(), new ModInfo(mc, file));
+                    newIndex.put(file.toString(), entry);
+                }
+            } catch (Exception ex) {
+                WorldsTogether.LOGGER.error("Error for " + file.toUri() + ": " + ex);
             }
+        }
 
-            if (data.get("id") == null) {
-                WorldsTogether.LOGGER.error("Unable to read ID in " + sourceFile);
-                return null;
+        if (!newIndex.equals(index)) saveIndex(newIndex);
+        return result;
+    }
+
+    private static Map<String, IndexEntry> loadIndex() {
+        final Map<String, IndexEntry> index = new HashMap<>();
+        if (!Files.exists(INDEX_FILE)) return index;
+
+        try (Reader reader = Files.newBufferedReader(INDEX_FILE, StandardCharsets.UTF_8)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (root.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> e : root.getAsJsonObject().entrySet()) {
+                    IndexEntry entry = IndexEntry.fromJson(e.getValue());
+                    if (entry != null) index.put(e.getKey(), entry);
+                }
             }
+        } catch (Exception e) {
+            WorldsTogether.LOGGER.warning("Unable to read mod index " + INDEX_FILE + ": " + e);
+        }
+        return index;
+    }
 
-            if (data.get("name") == null) {
-                WorldsTogether.LOGGER.error("Unable to read name in " + sourceFile);
-                return null;
+    private static void saveIndex(Map<String, IndexEntry> index) {
+        final JsonObject root = new JsonObject();
+        index.forEach((file, entry) -> root.add(file, entry.toJson()));
+
+        final Gson gson = new GsonBuilder().create();
+        try {
+            Files.createDirectories(INDEX_FILE.getParent());
+            final Path tempFile = INDEX_FILE.resolveSibling(INDEX_FILE.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(root, writer);
             }
+            Files.move(tempFile, INDEX_FILE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            WorldsTogether.LOGGER.warning("Unable to write mod index " + INDEX_FILE + ": " + e);
+        }
+    }
 
-            return new ModMetadata() {
-                @Override
-                public Version getVersion() {
-                    return ver;
-                }
+    /**
+     * Only keeps the fields of a {@code fabric.mod.json} that {@link #readJSON(JsonObject, String)} uses.
+     */
+    private static JsonObject indexedFields(JsonObject data) {
+        final JsonObject result = new JsonObject();
+        for (String key : new String[]{"id", "name", "version", "environment"}) {
+            if (data.has(key)) result.add(key, data.get(key));
+        }
+        final JsonElement entrypoints = data.get("entrypoints");
+        if (entrypoints != null && entrypoints.isJsonObject()) {
+            final JsonObject trimmed = new JsonObject();
+            final JsonElement client = entrypoints.getAsJsonObject().get("client");
+            if (client != null) trimmed.add("client", client);
+            result.add("entrypoints", trimmed);
+        }
+        return result;
+    }
 
-                @Override
-                public String getType() {
-                    return "fabric";
-                }
+    private static ModMetadata readJSON(JsonObject data, String sourceFile) {
+        Version ver;
+        try {
+            ver = SemanticVersion.parse(data.get("version").getAsString());
+        } catch (VersionParsingException e) {
+            WorldsTogether.LOGGER.error("Unable to parse Version in " + sourceFile);
+            return null;
+        }
 
-                @Override
-                public String getId() {
-                    return data.get("id")
-                               .getAsString();
-                }
+        if (data.get("id") == null) {
+            WorldsTogether.LOGGER.error("Unable to read ID in " + sourceFile);
+            return null;
+        }
 
-                @Override
-                public Collection<String> getProvides() {
-                    return new ArrayList<>();
-                }
+        if (data.get("name") == null) {
+            WorldsTogether.LOGGER.error("Unable to read name in " + sourceFile);
+            return null;
+        }
 
-                @Override
-                public ModEnvironment getEnvironment() {
-                    JsonElement env = data.get("environment");
-                    if (env == null) {
-                        WorldsTogether.LOGGER.warning("No environment specified in " + sourceFile);
-                        //return ModEnvironment.UNIVERSAL;
-                    }
-                    final String environment = env == null ? "" : env.getAsString()
-                                                                     .toLowerCase(Locale.ROOT);
-
-                    if (environment.isEmpty() || environment.equals("*") || environment.equals("\"*\"") || environment.equals(
-                            "common")) {
-                        JsonElement entrypoints = data.get("entrypoints");
-                        boolean hasClient = true;
-
-                        //check if there is an actual client entrypoint
-                        if (entrypoints != null && entrypoints.isJsonObject()) {
-                            JsonElement client = entrypoints.getAsJsonObject()
-                                                            .get("client");
-                            if (client != null && client.isJsonArray()) {
-                                hasClient = client.getAsJsonArray()
-                                                  .size() > 0;
-                            } else if (client == null || !client.isJsonPrimitive()) {
-                                hasClient = false;
-                            } else if (!client.getAsJsonPrimitive()
-                                              .isString()) {
-                                hasClient = false;
-                            }
-                        }
+        return new ModMetadata() {
+            @Override
+            public Version getVersion() {
+                return ver;
+            }
 
-                        //if (hasClient == false) return ModEnvironment.SERVER;
-                        return ModEnvironment.UNIVERSAL;
-                    } else if (environment.equals("client")) {
-                        return ModEnvironment.CLIENT;
-                    } else if (environment.equals("server")) {
-                        return ModEnvironment.SERVER;
-                    } else {
-                        WorldsTogether.LOGGER.error("Unable to read environment in " + sourceFile);
-                        return ModEnvironment.UNIVERSAL;
-                    }
-                }
+            @Override
+            public String getType() {
+                return "fabric";
+            }
 
-                @Override
-                public Collection<ModDependency> getDepends() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public String getId() {
+                return data.get("id")
+                           .getAsString();
+            }
 
-                @Override
-                public Collection<ModDependency> getRecommends() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public Collection<String> getProvides() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public Collection<ModDependency> getSuggests() {
-                    return new ArrayList<>();
+            @Override
+            public ModEnvironment getEnvironment() {
+                JsonElement env = data.get("environment");
+                if (env == null) {
+                    WorldsTogether.LOGGER.warning("No environment specified in " + sourceFile);
+                    //return ModEnvironment.UNIVERSAL;
                 }
+                final String environment = env == null ? "" : env.getAsString()
+                                                                 .toLowerCase(Locale.ROOT);
+
+                if (environment.isEmpty() || environment.equals("*") || environment.equals("\"*\"") || environment.equals(
+                        "common")) {
+                    JsonElement entrypoints = data.get("entrypoints");
+                    boolean hasClient = true;
+
+                    //check if there is an actual client entrypoint
+                    if (entrypoints != null && entrypoints.isJsonObject()) {
+                        JsonElement client = entrypoints.getAsJsonObject()
+                                                        .get("client");
+                        if (client != null && client.isJsonArray()) {
+                            hasClient = client.getAsJsonArray()
+                                              .size() > 0;
+                        } else if (client == null || !client.isJsonPrimitive()) {
+                            hasClient = false;
+                        } else if (!client.getAsJsonPrimitive()
+                                          .isString()) {
+                            hasClient = false;
+                        }
+                    }
 
-                @Override
-                public Collection<ModDependency> getConflicts() {
-                    return new ArrayList<>();
+                    //if (hasClient == false) return ModEnvironment.SERVER;
+                    return ModEnvironment.UNIVERSAL;
+                } else if (environment.equals("client")) {
+                    return ModEnvironment.CLIENT;
+                } else if (environment.equals("server")) {
+                    return ModEnvironment.SERVER;
+                } else {
+                    WorldsTogether.LOGGER.error("Unable to read environment in " + sourceFile);
+                    return ModEnvironment.UNIVERSAL;
                 }
+            }
 
-                @Override
-                public Collection<ModDependency> getBreaks() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public Collection<ModDependency> getDepends() {
+                return new ArrayList<>();
+            }
 
-                public Collection<ModDependency> getDependencies() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public Collection<ModDependency> getRecommends() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public String getName() {
-                    return data.get("name")
-                               .getAsString();
-                }
+            @Override
+            public Collection<ModDependency> getSuggests() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public String getDescription() {
-                    return "";
-                }
+            @Override
+            public Collection<ModDependency> getConflicts() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public Collection<Person> getAuthors() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public Collection<ModDependency> getBreaks() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public Collection<Person> getContributors() {
-                    return new ArrayList<>();
-                }
+            public Collection<ModDependency> getDependencies() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public ContactInformation getContact() {
-                    return null;
-                }
+            @Override
+            public String getName() {
+                return data.get("name")
+                           .getAsString();
+            }
 
-                @Override
-                public Collection<String> getLicense() {
-                    return new ArrayList<>();
-                }
+            @Override
+            public String getDescription() {
+                return "";
+            }
 
-                @Override
-                public Optional<String> getIconPath(int size) {
-                    return Optional.empty();
-                }
+            @Override
+            public Collection<Person> getAuthors() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public boolean containsCustomValue(String key) {
-                    return false;
-                }
+            @Override
+            public Collection<Person> getContributors() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public CustomValue getCustomValue(String key) {
-                    return null;
-                }
+            @Override
+            public ContactInformation getContact() {
+                return null;
+            }
 
-                @Override
-                public Map<String, CustomValue> getCustomValues() {
-                    return new HashMap<>();
-                }
+            @Override
+            public Collection<String> getLicense() {
+                return new ArrayList<>();
+            }
 
-                @Override
-                public boolean containsCustomElement(String key) {
-                    return false;
-                }
+            @Override
+            public Optional<String> getIconPath(int size) {
+                return Optional.empty();
+            }
 
-                public JsonElement getCustomElement(String key) {
-                    return null;
-                }
-            };
-        }
+            @Override
+            public boolean containsCustomValue(String key) {
+                return false;
+            }
+
+            @Override
+            public CustomValue getCustomValue(String key) {
+                return null;
+            }
+
+            @Override
+            public Map<String, CustomValue> getCustomValues() {
+                return new HashMap<>();
+            }
+
+            @Override
+            public boolean containsCustomElement(String key) {
+                return false;
+            }
+
+            public JsonElement getCustomElement(String key) {
+                return null;
+            }
+        };
     }
 
     /**
@@ -247,8 +363,7 @@ public class ModUtil {
     }
 
     public static ModInfo getModInfo(String modID, boolean matchVersion) {
-        getMods();
-        final ModInfo mi = mods.get(modID);
+        final ModInfo mi = getMods().get(modID);
         if (mi == null || (matchVersion && !getModVersion(modID).equals(mi.getVersion()))) return null;
         return mi;
     }
@@ -350,38 +465,49 @@ public class ModUtil {
         return convertModVersion(v1) >= convertModVersion(v2);
     }
 
-    private static void accept(Path file) {
+    /**
+     * Returns the indexed metadata of a mod file. The file is only opened if it changed since it was indexed.
+     *
+     * @return The entry, or {@code null} if the file has no readable {@code fabric.mod.json}
+     */
+    private static IndexEntry readEntry(Path file, IndexEntry cached) {
+        final long size;
+        final long modified;
         try {
-            URI uri = URI.create("jar:" + file.toUri());
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            WorldsTogether.LOGGER.error("Error for " + file.toUri() + ": " + e);
+            return null;
+        }
+        if (cached != null && cached.size == size && cached.modified == modified) return cached;
 
+        final URI uri = URI.create("jar:" + file.toUri());
+        try {
             FileSystem fs;
-            // boolean doClose = false;
+            boolean doClose = false;
             try {
                 fs = FileSystems.getFileSystem(uri);
             } catch (Exception e) {
-                // doClose = true;
+                doClose = true;
                 fs = FileSystems.newFileSystem(file);
             }
-            if (fs != null) {
-                try {
-                    Path modMetaFile = fs.getPath("fabric.mod.json");
-                    if (modMetaFile != null) {
-                        try (InputStream is = Files.newInputStream(modMetaFile)) {
-                            //ModMetadata mc = ModMetadataParser.parseMetadata(is, uri.toString(), new LinkedList<String>());
-                            ModMetadata mc = readJSON(is, uri.toString());
-                            if (mc != null) {
-                                mods.put(mc.getId(), new ModInfo(mc, file));
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    WorldsTogether.LOGGER.error("Error for " + uri + ": " + e);
+            try {
+                Path modMetaFile = fs.getPath("fabric.mod.json");
+                if (!Files.exists(modMetaFile)) return null;
+                try (JsonReader reader = new JsonReader(new InputStreamReader(
+                        Files.newInputStream(modMetaFile),
+                        StandardCharsets.UTF_8
+                ))) {
+                    JsonObject data = JsonParser.parseReader(reader).getAsJsonObject();
+                    return new IndexEntry(size, modified, indexedFields(data));
                 }
-                //if (doClose) fs.close();
+            } finally {
+                if (doClose) fs.close();
             }
         } catch (Exception e) {
-            WorldsTogether.LOGGER.error("Error for " + file.toUri() + ": " + e);
-            e.printStackTrace();
+            WorldsTogether.LOGGER.error("Error for " + uri + ": " + e);
+            return null;
         }
     }
 
@@ -12,13 +12,16 @@ import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -27,10 +30,27 @@ import org.jetbrains.annotations.ApiStatus;
  * This class provides the ability for mod to store persistent data inside a world. The Storage for the world is
  * currently initialized as part of the {@link WorldBootstrap} in
  * org.betterx.worlds.together.world.event.WorldBootstrap.Helpers#initializeWorldDataAPI(File, boolean)
+ * <p>
+ * Files are written on a background thread. {@link #saveFile(String)} only takes a snapshot of the data, and
+ * if a mod is saved several times before the writer gets to it, only the latest snapshot is written. Use
+ * {@link #flush()} to wait until all pending files are on disk.
  */
 public class WorldConfig {
-    private static final Map<String, CompoundTag> TAGS = Maps.newHashMap();
-    private static final List<String> MODS = Lists.newArrayList();
+    private static final Map<String, CompoundTag> TAGS = new ConcurrentHashMap<>();
+    private static final List<String> MODS = Lists.newCopyOnWriteArrayList();
+    private static final Map<String, PendingWrite> PENDING = new ConcurrentHashMap<>();
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "WorldConfig-IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WorldConfig::flush, "WorldConfig-Flush"));
+    }
+
+    private record PendingWrite(File dataDir, CompoundTag tag) {
+    }
 
     private static final String TAG_CREATED = "create_version";
     private static final String TAG_MODIFIED = "modify_version";
@@ -42,6 +62,7 @@ public class WorldConfig {
     }
 
     public static void load(File dataDir) {
+        flush();
         WorldConfig.setDataDir(dataDir);
         MODS.stream()
             .parallel()
@@ -91,13 +112,11 @@ public class WorldConfig {
      * @return {@link CompoundTag}
      */
     public static CompoundTag getRootTag(String modID) {
-        CompoundTag root = TAGS.get(modID);
-        if (root == null) {
-            root = new CompoundTag();
-            root.putString(TAG_CREATED, ModUtil.getModVersion(modID));
-            TAGS.put(modID, root);
-        }
-        return root;
+        return TAGS.computeIfAbsent(modID, id -> {
+            CompoundTag root = new CompoundTag();
+            root.putString(TAG_CREATED, ModUtil.getModVersion(id));
+            return root;
+        });
     }
 
     public static boolean hasMod(String modID) {
@@ -126,21 +145,46 @@ public class WorldConfig {
     }
 
     /**
-     * Forces mod cache file to be saved.
+     * Forces mod cache file to be saved. The file is written asynchronously.
      *
      * @param modID {@link String} mod ID.
      */
     public static void saveFile(String modID) {
+        CompoundTag tag = getRootTag(modID);
+        tag.putString(TAG_MODIFIED, ModUtil.getModVersion(modID));
+
+        //only schedule a write if there is none pending for this mod, the pending one will pick up the new data
+        if (PENDING.put(modID, new PendingWrite(dataDir, tag.copy())) == null) {
+            WRITER.execute(() -> write(modID));
+        }
+    }
+
+    /**
+     * Blocks until all pending files were written.
+     */
+    public static void flush() {
+        try {
+            WRITER.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            WorldsTogether.LOGGER.error("World data saving failed", e);
+        }
+    }
+
+    private static void write(String modID) {
+        final PendingWrite pending = PENDING.remove(modID);
+        if (pending == null) return;
+
+        final File dataDir = pending.dataDir;
         try {
             if (dataDir != null && !dataDir.exists()) {
                 dataDir.mkdirs();
             }
-            CompoundTag tag = getRootTag(modID);
-            tag.putString(TAG_MODIFIED, ModUtil.getModVersion(modID));
-
 
             final File tempFile = new File(dataDir, modID + "_temp.nbt");
-            NbtIo.writeCompressed(tag, tempFile);
+            NbtIo.writeCompressed(pending.tag, tempFile);
 
             final File oldFile = new File(dataDir, modID + "_old.nbt");
             final File dataFile = new File(dataDir, modID + ".nbt");